@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache;
+
+/**
+ * Cause of the removal of an entry.
+ * @since 0.0.14
+ */
+public enum Cause {
+    /**
+     * Its lifetime expired.
+     */
+    EXPIRED,
+
+    /**
+     * The cache reached its max size.
+     */
+    SIZE,
+
+    /**
+     * It was removed explicitly.
+     */
+    EXPLICIT,
+
+    /**
+     * It was replaced by another entry with the same key.
+     */
+    REPLACED,
+
+    /**
+     * Its value was reclaimed by the garbage collector.
+     */
+    COLLECTED
+}
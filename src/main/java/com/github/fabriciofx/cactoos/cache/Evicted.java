@@ -20,6 +20,13 @@ public interface Evicted<K extends Bytes, V extends Bytes> {
      */
     void add(Entry<K, V> entry);
 
+    /**
+     * Add an entry, telling why it was evicted.
+     * @param entry The entry
+     * @param cause Why it was evicted
+     */
+    void add(Entry<K, V> entry, Cause cause);
+
     /**
      * Get an evicted entry by index.
      * @param index The index
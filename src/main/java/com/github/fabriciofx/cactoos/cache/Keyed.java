@@ -0,0 +1,22 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache;
+
+import org.cactoos.Bytes;
+
+/**
+ * Something that belongs to the entry of a key.
+ * @param <K> The key value type
+ * @since 0.0.14
+ */
+@FunctionalInterface
+public interface Keyed<K extends Bytes> {
+
+    /**
+     * Retrieve the key of the entry.
+     * @return The key
+     */
+    Key<K> key();
+}
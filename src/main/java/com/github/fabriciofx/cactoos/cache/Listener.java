@@ -0,0 +1,24 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache;
+
+import org.cactoos.Bytes;
+
+/**
+ * Listener of the entries removed from a cache.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+@FunctionalInterface
+public interface Listener<K extends Bytes, V extends Bytes> {
+
+    /**
+     * Receive a removed entry.
+     * @param entry The entry
+     * @param cause Why it was removed
+     */
+    void removed(Entry<K, V> entry, Cause cause);
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache;
+
+import java.io.IOException;
+import org.cactoos.Bytes;
+
+/**
+ * Snapshot of the entries of a store.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public interface Snapshot<K extends Bytes, V extends Bytes> {
+
+    /**
+     * Dump all entries of a store into the snapshot.
+     * @param store The store
+     * @return The amount of entries dumped
+     * @throws IOException If the snapshot can't be written
+     */
+    int dump(Store<K, V> store) throws IOException;
+
+    /**
+     * Load the entries of the snapshot into a store.
+     * @param store The store
+     * @return The amount of entries loaded
+     * @throws IOException If the snapshot can't be read
+     */
+    int restore(Store<K, V> store) throws IOException;
+}
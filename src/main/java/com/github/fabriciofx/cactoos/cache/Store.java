@@ -44,6 +44,13 @@ public interface Store<K extends Bytes, V extends Bytes> {
      */
     boolean contains(Key<K> key);
 
+    /**
+     * Retrieve the oldest entry, that is, the next one to be evicted by
+     * insertion order.
+     * @return The oldest entry or an invalid entry if the store is empty
+     */
+    Entry<K, V> oldest();
+
     /**
      * Retrieve the keys.
      * @return The keys
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Cache that reports the entries removed from its store to a listener.
+ * <p>It reports the entries deleted or replaced by its users, and the
+ * ones removed by {@link #clear()} as
+ * {@link com.github.fabriciofx.cactoos.cache.Cause#EXPLICIT}. To receive
+ * the entries evicted by the policies too, create the underlying cache
+ * with a {@link com.github.fabriciofx.cactoos.cache.evicted.Listened}
+ * evicted and compose this decorator over the
+ * {@link Policed} cache, so each removal is reported only once.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Listened<K extends Bytes, V extends Bytes>
+    implements Cache<K, V> {
+
+    /**
+     * Cache.
+     */
+    private final Cache<K, V> origin;
+
+    /**
+     * Store.
+     */
+    private final Unchecked<Store<K, V>> str;
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     * @param listener The listener
+     */
+    public Listened(final Cache<K, V> cache, final Listener<K, V> listener) {
+        this.origin = cache;
+        this.str = new Unchecked<>(
+            new Sticky<>(
+                () -> new com.github.fabriciofx.cactoos.cache.store.Listened<>(
+                    cache.store(),
+                    listener
+                )
+            )
+        );
+    }
+
+    @Override
+    public Store<K, V> store() {
+        return this.str.value();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return this.origin.statistics();
+    }
+
+    @Override
+    public Evicted<K, V> evicted() {
+        return this.origin.evicted();
+    }
+
+    @Override
+    public void clear() {
+        this.store().entries().clear();
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+}
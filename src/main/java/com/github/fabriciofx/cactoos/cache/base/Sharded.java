@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.statistics.Joined;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.Bytes;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Cache that partitions its keys across several independent caches.
+ * <p>Each key goes to the cache chosen by the integer value of its hash.
+ * Each cache (shard) has its own store, locks and policies, so writes and
+ * policy runs on different shards never contend. Statistics, evicted
+ * entries and size are the sum of the ones of every shard; the statistics
+ * are read-only, so instrument every shard (not the sharded cache).</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Sharded<K extends Bytes, V extends Bytes>
+    implements Cache<K, V> {
+
+    /**
+     * Caches (shards).
+     */
+    private final List<Cache<K, V>> shards;
+
+    /**
+     * Store.
+     */
+    private final Unchecked<Store<K, V>> str;
+
+    /**
+     * Statistics.
+     */
+    private final Unchecked<Statistics> stats;
+
+    /**
+     * Evicted.
+     */
+    private final Unchecked<Evicted<K, V>> removed;
+
+    /**
+     * Ctor.
+     */
+    public Sharded() {
+        this(Runtime.getRuntime().availableProcessors(), CacheOf::new);
+    }
+
+    /**
+     * Ctor.
+     * @param count Number of shards
+     * @param shard Creates a new shard
+     */
+    public Sharded(final int count, final Scalar<Cache<K, V>> shard) {
+        this(
+            IntStream.range(0, Math.max(1, count))
+                .mapToObj(idx -> new Unchecked<>(shard).value())
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param shards The caches
+     */
+    public Sharded(final List<Cache<K, V>> shards) {
+        this.shards = shards;
+        this.str = new Unchecked<>(
+            new Sticky<>(
+                () -> new com.github.fabriciofx.cactoos.cache.store.Sharded<>(
+                    shards.stream()
+                        .map(Cache::store)
+                        .collect(Collectors.toList())
+                )
+            )
+        );
+        this.stats = new Unchecked<>(
+            new Sticky<>(
+                () -> new Joined(
+                    shards.stream()
+                        .map(Cache::statistics)
+                        .collect(Collectors.toList())
+                )
+            )
+        );
+        this.removed = new Unchecked<>(
+            new Sticky<>(
+                () -> new com.github.fabriciofx.cactoos.cache.evicted.Joined<>(
+                    shards.stream()
+                        .map(Cache::evicted)
+                        .collect(Collectors.toList())
+                )
+            )
+        );
+    }
+
+    @Override
+    public Store<K, V> store() {
+        return this.str.value();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return this.stats.value();
+    }
+
+    @Override
+    public Evicted<K, V> evicted() {
+        return this.removed.value();
+    }
+
+    @Override
+    public void clear() {
+        this.shards.forEach(Cache::clear);
+    }
+
+    @Override
+    public int size() {
+        return this.shards.stream().mapToInt(Cache::size).sum();
+    }
+}
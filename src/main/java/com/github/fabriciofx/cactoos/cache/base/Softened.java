@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.SoftValue;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import org.cactoos.BiFunc;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Cache whose values can be reclaimed by the garbage collector.
+ * <p>The values are held through soft references, so the JVM reclaims them
+ * under memory pressure instead of throwing an {@link OutOfMemoryError}.
+ * Compose it over an {@link Instrumented} cache to count the reclaimed
+ * entries as evictions.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Softened<K extends Bytes, V extends Bytes>
+    implements Cache<K, V> {
+
+    /**
+     * Cache.
+     */
+    private final Cache<K, V> origin;
+
+    /**
+     * Store.
+     */
+    private final Unchecked<Store<K, V>> str;
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     */
+    public Softened(final Cache<K, V> cache) {
+        this(cache, SoftValue::new);
+    }
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     * @param refs Creates a reference to the value of an entry (as
+     *  {@code WeakValue::new}), registered in the queue
+     */
+    public Softened(
+        final Cache<K, V> cache,
+        final BiFunc<Entry<K, V>, ReferenceQueue<V>, Reference<V>> refs
+    ) {
+        this.origin = cache;
+        this.str = new Unchecked<>(
+            new Sticky<>(
+                () -> new com.github.fabriciofx.cactoos.cache.store.Softened<>(
+                    cache,
+                    refs
+                )
+            )
+        );
+    }
+
+    @Override
+    public Store<K, V> store() {
+        return this.str.value();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return this.origin.statistics();
+    }
+
+    @Override
+    public Evicted<K, V> evicted() {
+        return this.origin.evicted();
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Cache made of a small hot cache over a larger cold store.
+ * <p>The hot cache is usually an on-heap cache whose policies keep it
+ * small and whose evicted entries are
+ * {@link com.github.fabriciofx.cactoos.cache.evicted.Demoted} to the cold
+ * store, usually an off-heap or a file-backed one. Lookups that miss the
+ * hot cache but hit the cold store promote the entry back. Statistics and
+ * evicted entries are the ones of the hot cache.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Tiered<K extends Bytes, V extends Bytes>
+    implements Cache<K, V> {
+
+    /**
+     * Hot cache.
+     */
+    private final Cache<K, V> hot;
+
+    /**
+     * Cold store.
+     */
+    private final Store<K, V> cold;
+
+    /**
+     * Store.
+     */
+    private final Unchecked<Store<K, V>> str;
+
+    /**
+     * Ctor.
+     * @param hot The hot cache
+     * @param cold The cold store
+     */
+    public Tiered(final Cache<K, V> hot, final Store<K, V> cold) {
+        this.hot = hot;
+        this.cold = cold;
+        this.str = new Unchecked<>(
+            new Sticky<>(
+                () -> new com.github.fabriciofx.cactoos.cache.store.Tiered<>(
+                    hot.store(),
+                    cold
+                )
+            )
+        );
+    }
+
+    @Override
+    public Store<K, V> store() {
+        return this.str.value();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return this.hot.statistics();
+    }
+
+    @Override
+    public Evicted<K, V> evicted() {
+        return this.hot.evicted();
+    }
+
+    @Override
+    public void clear() {
+        this.hot.clear();
+        this.cold.entries().clear();
+    }
+
+    @Override
+    public int size() {
+        return this.hot.size() + this.cold.keys().size()
+            + this.cold.entries().size();
+    }
+}
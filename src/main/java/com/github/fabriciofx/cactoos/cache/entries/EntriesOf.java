@@ -12,6 +12,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import org.cactoos.Bytes;
+import org.cactoos.Scalar;
 import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.number.SumOf;
@@ -42,8 +43,8 @@ public final class EntriesOf<K extends Bytes, V extends Bytes>
      * @param entries The entries
      */
     public EntriesOf(final Map<Key<K>, Entry<K, V>> entries) {
-        this.entries = entries;
-        this.sze = new Unchecked<>(
+        this(
+            entries,
             new Sticky<>(
                 () -> new SumOf(
                     new Joined<Integer>(
@@ -55,6 +56,19 @@ public final class EntriesOf<K extends Bytes, V extends Bytes>
         );
     }
 
+    /**
+     * Ctor.
+     * @param entries The entries
+     * @param size The size of the entries (keys and values) in bytes
+     */
+    public EntriesOf(
+        final Map<Key<K>, Entry<K, V>> entries,
+        final Scalar<Integer> size
+    ) {
+        this.entries = entries;
+        this.sze = new Unchecked<>(size);
+    }
+
     @Override
     public int count() {
         return this.entries.size();
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entries;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Invalidate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cactoos.Bytes;
+import org.cactoos.list.ListOf;
+
+/**
+ * Entries of several stores seen as one.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Joined<K extends Bytes, V extends Bytes>
+    implements Entries<K, V> {
+
+    /**
+     * Entries.
+     */
+    private final List<Entries<K, V>> entries;
+
+    /**
+     * Ctor.
+     * @param entries The entries to join
+     */
+    @SafeVarargs
+    public Joined(final Entries<K, V>... entries) {
+        this(new ListOf<>(entries));
+    }
+
+    /**
+     * Ctor.
+     * @param entries The entries to join
+     */
+    public Joined(final List<Entries<K, V>> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public int count() {
+        return this.entries.stream().mapToInt(Entries::count).sum();
+    }
+
+    @Override
+    public List<Entry<K, V>> invalidate(final Invalidate<K, V> invalidate) {
+        return this.entries.stream()
+            .flatMap(items -> items.invalidate(invalidate).stream())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void clear() {
+        this.entries.forEach(Entries::clear);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.stream().mapToInt(Entries::size).sum();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new org.cactoos.iterable.Joined<>(this.entries).iterator();
+    }
+}
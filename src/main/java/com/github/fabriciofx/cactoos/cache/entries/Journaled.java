@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entries;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Invalidate;
+import com.github.fabriciofx.cactoos.cache.journal.Journal;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Bytes;
+
+/**
+ * Entries that record the invalidated and cleared entries as deletes into
+ * a {@link Journal}.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Journaled<K extends Bytes, V extends Bytes>
+    implements Entries<K, V> {
+
+    /**
+     * Entries.
+     */
+    private final Entries<K, V> origin;
+
+    /**
+     * Journal.
+     */
+    private final Journal<K, V> journal;
+
+    /**
+     * Ctor.
+     * @param entries The entries
+     * @param journal The journal
+     */
+    public Journaled(final Entries<K, V> entries, final Journal<K, V> journal) {
+        this.origin = entries;
+        this.journal = journal;
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public List<Entry<K, V>> invalidate(final Invalidate<K, V> invalidate) {
+        final List<Entry<K, V>> invalidated = this.origin.invalidate(
+            invalidate
+        );
+        invalidated.forEach(entry -> this.journal.deleted(entry.key()));
+        return invalidated;
+    }
+
+    @Override
+    public void clear() {
+        this.origin.forEach(entry -> this.journal.deleted(entry.key()));
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return this.origin.iterator();
+    }
+}
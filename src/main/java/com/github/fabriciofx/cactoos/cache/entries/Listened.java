@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entries;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Invalidate;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Bytes;
+
+/**
+ * Entries that report the invalidated and cleared entries to a listener.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Listened<K extends Bytes, V extends Bytes>
+    implements Entries<K, V> {
+
+    /**
+     * Entries.
+     */
+    private final Entries<K, V> origin;
+
+    /**
+     * Listener.
+     */
+    private final Listener<K, V> listener;
+
+    /**
+     * Ctor.
+     * @param entries The entries
+     * @param listener The listener
+     */
+    public Listened(
+        final Entries<K, V> entries,
+        final Listener<K, V> listener
+    ) {
+        this.origin = entries;
+        this.listener = listener;
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public List<Entry<K, V>> invalidate(final Invalidate<K, V> invalidate) {
+        final List<Entry<K, V>> invalidated = this.origin.invalidate(
+            invalidate
+        );
+        invalidated.forEach(
+            entry -> this.listener.removed(entry, Cause.EXPLICIT)
+        );
+        return invalidated;
+    }
+
+    @Override
+    public void clear() {
+        this.origin.forEach(
+            entry -> this.listener.removed(entry, Cause.EXPLICIT)
+        );
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return this.origin.iterator();
+    }
+}
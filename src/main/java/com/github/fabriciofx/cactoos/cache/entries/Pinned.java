@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entries;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Invalidate;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.iterator.Filtered;
+import org.cactoos.iterator.Mapped;
+
+/**
+ * Entries whose values are pinned while they are iterated.
+ * <p>Each entry is pinned (as a
+ * {@link com.github.fabriciofx.cactoos.cache.entry.SoftEntry} keeping its
+ * value strongly referenced) when the iteration reaches it, and the
+ * entries that are no longer valid, as the ones whose value was already
+ * reclaimed, are skipped.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Pinned<K extends Bytes, V extends Bytes>
+    implements Entries<K, V> {
+
+    /**
+     * Entries.
+     */
+    private final Entries<K, V> origin;
+
+    /**
+     * Pins an entry, returning an invalid entry if it can't be pinned.
+     */
+    private final Func<Entry<K, V>, Entry<K, V>> pin;
+
+    /**
+     * Ctor.
+     * @param entries The entries
+     * @param pin Pins an entry, returning an invalid entry if it can't be
+     *  pinned
+     */
+    public Pinned(
+        final Entries<K, V> entries,
+        final Func<Entry<K, V>, Entry<K, V>> pin
+    ) {
+        this.origin = entries;
+        this.pin = pin;
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public List<Entry<K, V>> invalidate(final Invalidate<K, V> invalidate) {
+        return this.origin.invalidate(invalidate);
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new Filtered<>(
+            Entry::valid,
+            new Mapped<>(this.pin, this.origin.iterator())
+        );
+    }
+}
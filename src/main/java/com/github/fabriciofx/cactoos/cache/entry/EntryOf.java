@@ -9,7 +9,8 @@ import com.github.fabriciofx.cactoos.cache.Key;
 import com.github.fabriciofx.cactoos.cache.Metadata;
 import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
 import org.cactoos.Bytes;
-import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * EntryOf.
@@ -36,9 +37,9 @@ public final class EntryOf<K extends Bytes, V extends Bytes>
     private final Metadata meta;
 
     /**
-     * Bytes.
+     * Size of the value in bytes, measured only once.
      */
-    private final UncheckedBytes bytes;
+    private final Unchecked<Integer> sze;
 
     /**
      * Ctor.
@@ -59,7 +60,9 @@ public final class EntryOf<K extends Bytes, V extends Bytes>
         this.id = key;
         this.val = value;
         this.meta = metadata;
-        this.bytes = new UncheckedBytes(value);
+        this.sze = new Unchecked<>(
+            new Sticky<>(() -> value.asBytes().length)
+        );
     }
 
     @Override
@@ -84,6 +87,6 @@ public final class EntryOf<K extends Bytes, V extends Bytes>
 
     @Override
     public int size() {
-        return this.bytes.asBytes().length;
+        return this.sze.value();
     }
 }
@@ -11,6 +11,8 @@ import org.cactoos.Bytes;
 
 /**
  * InvalidEntry.
+ * <p>It is stateless, so a single instance can be shared by every miss of
+ * a store.</p>
  * @param <K> The key value type
  * @param <V> The entry value type
  * @since 0.0.1
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entry;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import com.github.fabriciofx.cactoos.cache.slab.Chunk;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Entry whose value lives outside the Java heap.
+ * <p>Only the key, the metadata and a reference to where the value is kept
+ * (a chunk of direct memory or a record of a file) stay on the heap. The
+ * value is decoded from there every time it is asked for.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class OffHeapEntry<K extends Bytes, V extends Bytes>
+    implements Entry<K, V> {
+
+    /**
+     * Key.
+     */
+    private final Key<K> id;
+
+    /**
+     * Value bytes.
+     */
+    private final Bytes bytes;
+
+    /**
+     * Length of the value in bytes.
+     */
+    private final int length;
+
+    /**
+     * Metadata.
+     */
+    private final Metadata meta;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final UncheckedFunc<byte[], V> decoder;
+
+    /**
+     * Ctor.
+     * @param key A key
+     * @param chunk The chunk holding the value bytes
+     * @param metadata The metadata
+     * @param decoder Decoder of the value bytes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    public OffHeapEntry(
+        final Key<K> key,
+        final Chunk chunk,
+        final Metadata metadata,
+        final Func<byte[], V> decoder
+    ) {
+        this(key, chunk, chunk.length(), metadata, decoder);
+    }
+
+    /**
+     * Ctor.
+     * @param key A key
+     * @param bytes Reads the value bytes from where they are kept
+     * @param length Length of the value in bytes
+     * @param metadata The metadata
+     * @param decoder Decoder of the value bytes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    public OffHeapEntry(
+        final Key<K> key,
+        final Bytes bytes,
+        final int length,
+        final Metadata metadata,
+        final Func<byte[], V> decoder
+    ) {
+        this.id = key;
+        this.bytes = bytes;
+        this.length = length;
+        this.meta = metadata;
+        this.decoder = new UncheckedFunc<>(decoder);
+    }
+
+    @Override
+    public Key<K> key() {
+        return this.id;
+    }
+
+    @Override
+    public V value() {
+        return this.decoder.apply(new UncheckedBytes(this.bytes).asBytes());
+    }
+
+    @Override
+    public Metadata metadata() {
+        return this.meta;
+    }
+
+    @Override
+    public boolean valid() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return this.length;
+    }
+
+    /**
+     * Give back the chunk holding the value, if it is held by one.
+     * <p>The value can still be read afterwards, from a copy on the
+     * heap.</p>
+     */
+    public void release() {
+        if (this.bytes instanceof Chunk) {
+            ((Chunk) this.bytes).release();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entry;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import org.cactoos.Bytes;
+
+/**
+ * Entry whose value was reclaimed by the garbage collector.
+ * <p>It keeps the key and the metadata, so it can be reported as evicted,
+ * but it has no value and it is never valid.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class ReclaimedEntry<K extends Bytes, V extends Bytes>
+    implements Entry<K, V> {
+
+    /**
+     * Key.
+     */
+    private final Key<K> id;
+
+    /**
+     * Metadata.
+     */
+    private final Metadata meta;
+
+    /**
+     * Size of the entry in bytes before the value was reclaimed.
+     */
+    private final int sze;
+
+    /**
+     * Ctor.
+     * @param key A key
+     * @param metadata The metadata
+     * @param size Size of the entry in bytes
+     */
+    public ReclaimedEntry(
+        final Key<K> key,
+        final Metadata metadata,
+        final int size
+    ) {
+        this.id = key;
+        this.meta = metadata;
+        this.sze = size;
+    }
+
+    @Override
+    public Key<K> key() {
+        return this.id;
+    }
+
+    @Override
+    public V value() {
+        throw new UnsupportedOperationException(
+            "#value(): reclaimed by the garbage collector"
+        );
+    }
+
+    @Override
+    public Metadata metadata() {
+        return this.meta;
+    }
+
+    @Override
+    public boolean valid() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.sze;
+    }
+}
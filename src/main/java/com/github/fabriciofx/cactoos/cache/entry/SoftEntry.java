@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entry;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import java.lang.ref.Reference;
+import org.cactoos.Bytes;
+
+/**
+ * Entry whose value is held through a (soft or weak) reference.
+ * <p>The garbage collector may reclaim the value at any time; from then
+ * on the entry is no longer valid. Use {@link #pinned(Entry)} to read the value
+ * only once, keeping it strongly referenced.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class SoftEntry<K extends Bytes, V extends Bytes>
+    implements Entry<K, V> {
+
+    /**
+     * Key.
+     */
+    private final Key<K> id;
+
+    /**
+     * Reference to the value.
+     */
+    private final Reference<V> ref;
+
+    /**
+     * Metadata.
+     */
+    private final Metadata meta;
+
+    /**
+     * Size of the entry in bytes, measured while the value was reachable.
+     */
+    private final int sze;
+
+    /**
+     * Ctor.
+     * @param key A key
+     * @param value Reference to the value
+     * @param metadata The metadata
+     * @param size Size of the entry in bytes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    public SoftEntry(
+        final Key<K> key,
+        final Reference<V> value,
+        final Metadata metadata,
+        final int size
+    ) {
+        this.id = key;
+        this.ref = value;
+        this.meta = metadata;
+        this.sze = size;
+    }
+
+    @Override
+    public Key<K> key() {
+        return this.id;
+    }
+
+    @Override
+    public V value() {
+        final V value = this.ref.get();
+        if (value == null) {
+            throw new UnsupportedOperationException(
+                "#value(): reclaimed by the garbage collector"
+            );
+        }
+        return value;
+    }
+
+    @Override
+    public Metadata metadata() {
+        return this.meta;
+    }
+
+    @Override
+    public boolean valid() {
+        return !this.ref.refersTo(null);
+    }
+
+    @Override
+    public int size() {
+        return this.sze;
+    }
+
+    /**
+     * Retrieve this entry with its value strongly referenced.
+     * @param invalid The entry to return if the value was reclaimed
+     * @return The entry or the invalid entry if the value was reclaimed
+     */
+    public Entry<K, V> pinned(final Entry<K, V> invalid) {
+        final V value = this.ref.get();
+        final Entry<K, V> entry;
+        if (value == null) {
+            entry = invalid;
+        } else {
+            entry = new EntryOf<>(this.id, value, this.meta);
+        }
+        return entry;
+    }
+
+    /**
+     * Retrieve this entry as reclaimed by the garbage collector.
+     * @return The reclaimed entry
+     */
+    public Entry<K, V> reclaimed() {
+        return new ReclaimedEntry<>(this.id, this.meta, this.sze);
+    }
+}
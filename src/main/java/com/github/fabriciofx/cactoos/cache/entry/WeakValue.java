@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.entry;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keyed;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import org.cactoos.Bytes;
+
+/**
+ * Weak reference to the value of an entry that remembers its key.
+ * <p>Once it is cleared and enqueued, the key tells which entry lost its
+ * value, so only that entry has to be removed.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class WeakValue<K extends Bytes, V extends Bytes>
+    extends WeakReference<V> implements Keyed<K> {
+
+    /**
+     * Key.
+     */
+    private final Key<K> id;
+
+    /**
+     * Ctor.
+     * @param entry The entry whose value is referenced
+     * @param queue Queue to enqueue the reference when cleared
+     */
+    public WeakValue(
+        final Entry<K, V> entry,
+        final ReferenceQueue<? super V> queue
+    ) {
+        this(entry.key(), entry.value(), queue);
+    }
+
+    /**
+     * Ctor.
+     * @param key The key of the entry
+     * @param value The value
+     * @param queue Queue to enqueue the reference when cleared
+     */
+    public WeakValue(
+        final Key<K> key,
+        final V value,
+        final ReferenceQueue<? super V> queue
+    ) {
+        super(value, queue);
+        this.id = key;
+    }
+
+    @Override
+    public Key<K> key() {
+        return this.id;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.evicted;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.cactoos.Bytes;
+
+/**
+ * Evicted that keeps only the last evicted entries.
+ * <p>The entries are kept in a fixed-capacity ring buffer: adding one
+ * takes a slot with a single atomic increment, without locking nor
+ * copying, and overwrites the oldest entry once the buffer is full. The
+ * entries are indexed from the oldest to the newest one still kept.</p>
+ * <p>Each slot remembers the position it was written for, so an index
+ * whose slot is still being written by a concurrent {@link #add(Entry)},
+ * or was already overwritten by a newer entry, reads as an invalid entry
+ * instead of a stale one. A slot is only written if it holds an older
+ * position, so a delayed {@link #add(Entry)} never overwrites a newer
+ * entry. Entries added while {@link #clear()} runs are kept.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Bounded<K extends Bytes, V extends Bytes>
+    implements Evicted<K, V> {
+
+    /**
+     * Slots.
+     */
+    private final AtomicReferenceArray<Slot<K, V>> slots;
+
+    /**
+     * Amount of entries ever added.
+     */
+    private final AtomicLong added;
+
+    /**
+     * Position of the oldest entry not cleared.
+     */
+    private final AtomicLong start;
+
+    /**
+     * Invalid entry, shared by every empty slot.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Ctor.
+     */
+    public Bounded() {
+        this(1024);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Max number of evicted entries to keep
+     */
+    public Bounded(final int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        this.added = new AtomicLong(0L);
+        this.start = new AtomicLong(0L);
+        this.invalid = new InvalidEntry<>();
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry) {
+        final long position = this.added.getAndIncrement();
+        final int idx = this.slot(position);
+        final Slot<K, V> fresh = new Slot<>(position, entry);
+        Slot<K, V> current = this.slots.get(idx);
+        while ((current == null || current.position() < position)
+            && !this.slots.compareAndSet(idx, current, fresh)) {
+            current = this.slots.get(idx);
+        }
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        this.add(entry);
+    }
+
+    @Override
+    public Entry<K, V> entry(final int index) {
+        final long first = this.start.get();
+        final long total = this.added.get();
+        final int count = this.count(first, total);
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "#entry(): index %d out of bounds for %d entries",
+                    index,
+                    count
+                )
+            );
+        }
+        final long position = total - count + index;
+        final Slot<K, V> slot = this.slots.get(this.slot(position));
+        final Entry<K, V> found;
+        if (slot == null || slot.position() != position) {
+            found = this.invalid;
+        } else {
+            found = slot.entry();
+        }
+        return found;
+    }
+
+    @Override
+    public int count() {
+        final long first = this.start.get();
+        return this.count(first, this.added.get());
+    }
+
+    @Override
+    public void clear() {
+        final long end = this.added.get();
+        this.start.accumulateAndGet(end, Math::max);
+        for (int idx = 0; idx < this.slots.length(); ++idx) {
+            final Slot<K, V> slot = this.slots.get(idx);
+            if (slot != null && slot.position() < end) {
+                this.slots.compareAndSet(idx, slot, null);
+            }
+        }
+    }
+
+    private int count(final long first, final long total) {
+        return (int) Math.min(total - first, this.slots.length());
+    }
+
+    private int slot(final long position) {
+        return (int) (position % this.slots.length());
+    }
+
+    /**
+     * An entry and the position it was added at.
+     * @param <K> The key value type
+     * @param <V> The entry value type
+     * @since 0.0.14
+     */
+    private static final class Slot<K extends Bytes, V extends Bytes> {
+
+        /**
+         * Position.
+         */
+        private final long pos;
+
+        /**
+         * Entry.
+         */
+        private final Entry<K, V> item;
+
+        /**
+         * Ctor.
+         * @param position The position
+         * @param entry The entry
+         */
+        Slot(final long position, final Entry<K, V> entry) {
+            this.pos = position;
+            this.item = entry;
+        }
+
+        long position() {
+            return this.pos;
+        }
+
+        Entry<K, V> entry() {
+            return this.item;
+        }
+    }
+}
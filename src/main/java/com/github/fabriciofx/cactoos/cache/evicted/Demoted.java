@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.evicted;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Store;
+import org.cactoos.Bytes;
+
+/**
+ * Evicted that moves the entries evicted for size into another store.
+ * <p>Used as the evicted of the hot tier of a
+ * {@link com.github.fabriciofx.cactoos.cache.base.Tiered} cache, so the
+ * entries evicted by its size policies are demoted to the cold tier instead
+ * of being dropped. Entries removed for any other cause (as expired or
+ * collected ones) are not demoted, otherwise they would be promoted back
+ * by the next lookup. Every evicted entry, demoted or not, is also added
+ * to another evicted, which answers {@link #entry(int)} and
+ * {@link #count()}. An entry added without a cause is taken as evicted for
+ * size.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Demoted<K extends Bytes, V extends Bytes>
+    implements Evicted<K, V> {
+
+    /**
+     * Store receiving the entries evicted for size.
+     */
+    private final Store<K, V> store;
+
+    /**
+     * Evicted entries.
+     */
+    private final Evicted<K, V> origin;
+
+    /**
+     * Ctor.
+     * <p>Keeps only the last evicted entries, in a {@link Bounded}.</p>
+     * @param store Store receiving the entries evicted for size
+     */
+    public Demoted(final Store<K, V> store) {
+        this(store, new Bounded<>());
+    }
+
+    /**
+     * Ctor.
+     * @param store Store receiving the entries evicted for size
+     * @param evicted Evicted receiving every evicted entry
+     */
+    public Demoted(final Store<K, V> store, final Evicted<K, V> evicted) {
+        this.store = store;
+        this.origin = evicted;
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry) {
+        this.add(entry, Cause.SIZE);
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        if (cause == Cause.SIZE && entry.valid()) {
+            this.store.save(entry.key(), entry);
+        }
+        this.origin.add(entry, cause);
+    }
+
+    @Override
+    public Entry<K, V> entry(final int index) {
+        return this.origin.entry(index);
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.github.fabriciofx.cactoos.cache.evicted;
 
+import com.github.fabriciofx.cactoos.cache.Cause;
 import com.github.fabriciofx.cactoos.cache.Entry;
 import com.github.fabriciofx.cactoos.cache.Evicted;
 import java.util.List;
@@ -44,6 +45,11 @@ public final class EvictedOf<K extends Bytes, V extends Bytes>
         this.items.add(entry);
     }
 
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        this.add(entry);
+    }
+
     @Override
     public Entry<K, V> entry(final int index) {
         return this.items.get(index);
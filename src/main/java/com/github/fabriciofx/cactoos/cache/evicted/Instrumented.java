@@ -4,6 +4,7 @@
  */
 package com.github.fabriciofx.cactoos.cache.evicted;
 
+import com.github.fabriciofx.cactoos.cache.Cause;
 import com.github.fabriciofx.cactoos.cache.Entry;
 import com.github.fabriciofx.cactoos.cache.Evicted;
 import com.github.fabriciofx.cactoos.cache.Statistics;
@@ -47,6 +48,12 @@ public final class Instrumented<K extends Bytes, V extends Bytes>
         this.origin.add(entry);
     }
 
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        this.stats.statistic("evictions").increment(1);
+        this.origin.add(entry, cause);
+    }
+
     @Override
     public Entry<K, V> entry(final int index) {
         return this.origin.entry(index);
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.evicted;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import java.util.List;
+import org.cactoos.Bytes;
+
+/**
+ * Evicted entries of several caches seen as one.
+ * <p>An added entry goes to the evicted its key hashes to, the same way
+ * {@link com.github.fabriciofx.cactoos.cache.store.Sharded} routes keys,
+ * and entries are indexed one evicted after the other.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Joined<K extends Bytes, V extends Bytes>
+    implements Evicted<K, V> {
+
+    /**
+     * Evicted.
+     */
+    private final List<Evicted<K, V>> evicted;
+
+    /**
+     * Ctor.
+     * @param evicted The evicted to join
+     */
+    public Joined(final List<Evicted<K, V>> evicted) {
+        this.evicted = evicted;
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry) {
+        this.shard(entry).add(entry);
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        this.shard(entry).add(entry, cause);
+    }
+
+    @Override
+    public Entry<K, V> entry(final int index) {
+        int rest = index;
+        Entry<K, V> found = null;
+        for (final Evicted<K, V> items : this.evicted) {
+            if (rest < items.count()) {
+                found = items.entry(rest);
+                break;
+            }
+            rest -= items.count();
+        }
+        if (found == null) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "#entry(): index %d out of %d evicted entries",
+                    index,
+                    this.count()
+                )
+            );
+        }
+        return found;
+    }
+
+    @Override
+    public int count() {
+        return this.evicted.stream().mapToInt(Evicted::count).sum();
+    }
+
+    @Override
+    public void clear() {
+        this.evicted.forEach(Evicted::clear);
+    }
+
+    private Evicted<K, V> shard(final Entry<K, V> entry) {
+        return this.evicted.get(
+            Math.floorMod(entry.key().hash().asInt(), this.evicted.size())
+        );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.evicted;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import org.cactoos.Bytes;
+
+/**
+ * Evicted that hands each evicted entry to a listener.
+ * <p>Compose it over a {@link Bounded} evicted to react to the evictions
+ * without retaining every evicted entry. Entries added without a cause
+ * are reported as {@link Cause#EXPLICIT}; invalid entries (as the ones
+ * deleted concurrently) are not reported, apart from the ones whose value
+ * was {@link Cause#COLLECTED}.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Listened<K extends Bytes, V extends Bytes>
+    implements Evicted<K, V> {
+
+    /**
+     * Evicted.
+     */
+    private final Evicted<K, V> origin;
+
+    /**
+     * Listener.
+     */
+    private final Listener<K, V> listener;
+
+    /**
+     * Ctor.
+     * @param evicted The evicted
+     * @param listener The listener
+     */
+    public Listened(
+        final Evicted<K, V> evicted,
+        final Listener<K, V> listener
+    ) {
+        this.origin = evicted;
+        this.listener = listener;
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry) {
+        this.add(entry, Cause.EXPLICIT);
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry, final Cause cause) {
+        this.origin.add(entry, cause);
+        if (entry.valid() || cause == Cause.COLLECTED) {
+            this.listener.removed(entry, cause);
+        }
+    }
+
+    @Override
+    public Entry<K, V> entry(final int index) {
+        return this.origin.entry(index);
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public void clear() {
+        this.origin.clear();
+    }
+}
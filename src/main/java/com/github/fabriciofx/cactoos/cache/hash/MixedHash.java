@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.hash;
+
+import com.github.fabriciofx.cactoos.cache.Hash;
+
+/**
+ * Hash of a 64-bit number, mixed with the SplitMix64 finalizer.
+ * <p>It spreads every bit of the number over the whole hash without
+ * serializing it, so sequential numbers (as IDs) have unrelated
+ * hashes.</p>
+ * @since 0.0.14
+ */
+public final class MixedHash implements Hash<Long> {
+
+    /**
+     * Mixed value.
+     */
+    private final long mixed;
+
+    /**
+     * Ctor.
+     * @param number The number to hash
+     */
+    public MixedHash(final long number) {
+        this.mixed = MixedHash.mix(number);
+    }
+
+    @Override
+    public Long value() {
+        return this.mixed;
+    }
+
+    @Override
+    public String asString() {
+        return Long.toHexString(this.mixed);
+    }
+
+    @Override
+    public int asInt() {
+        return Long.hashCode(this.mixed);
+    }
+
+    /**
+     * Retrieve the hash as a primitive.
+     * @return The hash
+     */
+    public long asLong() {
+        return this.mixed;
+    }
+
+    private static long mix(final long number) {
+        long hash = number;
+        hash = (hash ^ hash >>> 30) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ hash >>> 27) * 0x94D049BB133111EBL;
+        return hash ^ hash >>> 31;
+    }
+}
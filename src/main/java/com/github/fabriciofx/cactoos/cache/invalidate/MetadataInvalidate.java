@@ -8,13 +8,22 @@ import com.github.fabriciofx.cactoos.cache.Entry;
 import com.github.fabriciofx.cactoos.cache.Invalidate;
 import com.github.fabriciofx.cactoos.cache.Key;
 import com.github.fabriciofx.cactoos.cache.Metadata;
+import com.github.fabriciofx.cactoos.cache.map.TaggedMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import org.cactoos.Bytes;
 import org.cactoos.list.ListOf;
 
 /**
  * MetadataInvalidate.
+ * <p>With a {@link TaggedMap} indexing these metadata values, it only visits
+ * the entries carrying them, instead of scanning the whole map. A store
+ * wraps its map (to measure it, for instance), so give it the
+ * {@link TaggedMap} the store was built on; a {@link TaggedMap} given
+ * straight to {@link #apply(Map)} is used as well.</p>
  * @param <K> The key value type
  * @param <V> The entry value type
  * @since 0.0.7
@@ -28,16 +37,81 @@ public final class MetadataInvalidate<K extends Bytes, V extends Bytes>
      */
     private final Iterable<?> values;
 
+    /**
+     * Finds the map indexing the entries of the map to invalidate.
+     */
+    private final Function<Map<Key<K>, Entry<K, V>>, Map<Key<K>, Entry<K, V>>>
+        index;
+
     /**
      * Ctor.
      * @param values The metadata values
      */
     public MetadataInvalidate(final Iterable<?> values) {
+        this(values, input -> input);
+    }
+
+    /**
+     * Ctor.
+     * @param values The metadata values
+     * @param index The map, wrapped by the store, that indexes its entries
+     */
+    public MetadataInvalidate(
+        final Iterable<?> values,
+        final TaggedMap<Key<K>, Entry<K, V>> index
+    ) {
+        this(values, input -> index);
+    }
+
+    /**
+     * Ctor.
+     * @param values The metadata values
+     * @param index Finds the map indexing the entries of the map to
+     *  invalidate
+     */
+    public MetadataInvalidate(
+        final Iterable<?> values,
+        final Function<Map<Key<K>, Entry<K, V>>, Map<Key<K>, Entry<K, V>>>
+            index
+    ) {
         this.values = values;
+        this.index = index;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<Entry<K, V>> apply(final Map<Key<K>, Entry<K, V>> input) {
+        final Map<Key<K>, Entry<K, V>> tagged = this.index.apply(input);
+        final List<Entry<K, V>> invalidated;
+        if (tagged instanceof TaggedMap) {
+            invalidated = this.indexed(
+                (TaggedMap<Key<K>, Entry<K, V>>) tagged,
+                input
+            );
+        } else {
+            invalidated = this.scanned(input);
+        }
+        return invalidated;
+    }
+
+    private List<Entry<K, V>> indexed(
+        final TaggedMap<Key<K>, Entry<K, V>> tagged,
+        final Map<Key<K>, Entry<K, V>> input
+    ) {
+        final Set<Key<K>> keys = new LinkedHashSet<>();
+        this.values.forEach(value -> keys.addAll(tagged.tagged(value)));
+        final List<Entry<K, V>> invalidated = new ListOf<>();
+        for (final Key<K> key : keys) {
+            final Entry<K, V> entry = input.get(key);
+            if (entry != null && entry.metadata().hasAny(this.values)
+                && input.remove(key, entry)) {
+                invalidated.add(entry);
+            }
+        }
+        return invalidated;
+    }
+
+    private List<Entry<K, V>> scanned(final Map<Key<K>, Entry<K, V>> input) {
         final List<Entry<K, V>> invalidated = new ListOf<>();
         input.values().forEach(
             entry -> {
@@ -0,0 +1,469 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.journal;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.Decoded;
+import com.github.fabriciofx.cactoos.cache.metadata.Deserialized;
+import com.github.fabriciofx.cactoos.cache.metadata.Serialized;
+import com.github.fabriciofx.cactoos.cache.thread.Daemons;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Write-ahead journal of the changes made to a store.
+ * <p>Changes are queued in memory and written by a background thread every
+ * interval, all of them with a single write and a single {@code fsync}
+ * (group commit), so no change waits for the disk. The changes made in the
+ * last interval before a crash may be lost. At most a given number of
+ * changes wait in memory: when there are more, the change being recorded
+ * commits them itself, so writers are slowed down to the pace of the disk
+ * instead of filling the memory. A failed commit is undone, its changes
+ * are lost and the failure is thrown by the next change recorded (or by
+ * {@link #close()}), while the next commits keep running on a daemon
+ * thread. {@link #replay(Store)} applies
+ * the journal to a store and rewrites it with only the entries that are
+ * still alive, so it does not grow forever.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ * @checkstyle ParameterNumberCheck (300 lines)
+ * @checkstyle ClassFanOutComplexityCheck (300 lines)
+ */
+@SuppressWarnings({"InvalidBlockTag", "PMD.ExcessiveImports"})
+public final class Journal<K extends Bytes, V extends Bytes>
+    implements Closeable {
+
+    /**
+     * Operation of a save.
+     */
+    private static final byte SAVE = 1;
+
+    /**
+     * Operation of a delete.
+     */
+    private static final byte DELETE = 2;
+
+    /**
+     * Path of the journal file.
+     */
+    private final Path path;
+
+    /**
+     * Decoder of the key bytes.
+     */
+    private final UncheckedFunc<byte[], Key<K>> keys;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final UncheckedFunc<byte[], V> values;
+
+    /**
+     * Interval between commits.
+     */
+    private final long interval;
+
+    /**
+     * Time unit.
+     */
+    private final TimeUnit unit;
+
+    /**
+     * Records waiting to be committed.
+     */
+    private final BlockingQueue<ByteBuffer> pending;
+
+    /**
+     * Failure of a commit, not thrown yet.
+     */
+    private final AtomicReference<IOException> failure;
+
+    /**
+     * Lock held while committing.
+     */
+    private final Lock lock;
+
+    /**
+     * Start the committer only once.
+     */
+    private final AtomicBoolean once;
+
+    /**
+     * Channel of the journal file.
+     */
+    private final Unchecked<FileChannel> channel;
+
+    /**
+     * Executor running the commits.
+     */
+    private final Unchecked<ScheduledExecutorService> executor;
+
+    /**
+     * Ctor.
+     * @param path Path of the journal file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     */
+    public Journal(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values
+    ) {
+        this(path, keys, values, 100L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the journal file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     * @param interval Interval between commits
+     * @param unit Time unit
+     */
+    public Journal(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values,
+        final long interval,
+        final TimeUnit unit
+    ) {
+        this(path, keys, values, interval, unit, 65_536);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the journal file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     * @param interval Interval between commits
+     * @param unit Time unit
+     * @param capacity Max number of changes waiting to be committed
+     */
+    public Journal(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values,
+        final long interval,
+        final TimeUnit unit,
+        final int capacity
+    ) {
+        this.path = path;
+        this.keys = new UncheckedFunc<>(new Decoded<>(keys));
+        this.values = new UncheckedFunc<>(values);
+        this.interval = interval;
+        this.unit = unit;
+        this.pending = new LinkedBlockingQueue<>(capacity);
+        this.failure = new AtomicReference<>();
+        this.lock = new ReentrantLock();
+        this.once = new AtomicBoolean(false);
+        this.channel = new Unchecked<>(
+            new Sticky<>(
+                () -> FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+                )
+            )
+        );
+        this.executor = new Unchecked<>(
+            new Sticky<>(
+                () -> Executors.newSingleThreadScheduledExecutor(
+                    new Daemons("journal-commit")
+                )
+            )
+        );
+    }
+
+    /**
+     * Record a save.
+     * @param key The key
+     * @param entry The entry saved
+     */
+    public void saved(final Key<K> key, final Entry<K, V> entry) {
+        this.append(
+            Journal.record(
+                Journal.SAVE,
+                new UncheckedBytes(key.value()).asBytes(),
+                new UncheckedBytes(entry.value()).asBytes(),
+                new UncheckedBytes(new Serialized(entry.metadata())).asBytes()
+            )
+        );
+    }
+
+    /**
+     * Record a delete.
+     * @param key The key deleted
+     */
+    public void deleted(final Key<K> key) {
+        this.append(
+            Journal.record(
+                Journal.DELETE,
+                new UncheckedBytes(key.value()).asBytes(),
+                new byte[0],
+                new byte[0]
+            )
+        );
+    }
+
+    /**
+     * Apply the journal to a store and rewrite it with the entries of the
+     * store. It must be called before any change is recorded.
+     * <p>A torn record at the end of the journal is dropped, but a record
+     * of an unknown operation means the journal is corrupted and fails the
+     * replay.</p>
+     * @param store The store
+     * @throws IOException If the journal is corrupted or can't be rewritten
+     */
+    public void replay(final Store<K, V> store) throws IOException {
+        if (Files.exists(this.path)) {
+            final long total = Files.size(this.path);
+            long good = 0L;
+            try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(this.path))
+            )) {
+                while (true) {
+                    final byte operation = in.readByte();
+                    final int klen = in.readInt();
+                    final int vlen = in.readInt();
+                    final int mlen = in.readInt();
+                    if (klen < 0 || vlen < 0 || mlen < 0
+                        || good + 1 + 3 * Integer.BYTES + klen + vlen + mlen
+                        > total) {
+                        throw new EOFException("torn record");
+                    }
+                    final byte[] key = Journal.bytes(in, klen);
+                    final byte[] value = Journal.bytes(in, vlen);
+                    final byte[] meta = Journal.bytes(in, mlen);
+                    this.apply(store, operation, key, value, meta);
+                    good += 1 + 3 * Integer.BYTES + key.length + value.length
+                        + meta.length;
+                }
+            } catch (final EOFException ex) {
+                try (FileChannel torn = FileChannel.open(
+                    this.path,
+                    StandardOpenOption.WRITE
+                )) {
+                    torn.truncate(good);
+                }
+            }
+        }
+        this.rewrite(store);
+    }
+
+    /**
+     * Commit the changes waiting in memory.
+     * <p>If the changes can't be written, the journal is truncated back to
+     * where it was, so it never keeps a torn batch, and the changes are
+     * lost.</p>
+     * @throws IOException If the journal can't be written
+     */
+    public void commit() throws IOException {
+        this.lock.lock();
+        try {
+            final List<ByteBuffer> batch = new ArrayList<>(0);
+            this.pending.drainTo(batch);
+            if (!batch.isEmpty()) {
+                this.write(batch);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.once.get()) {
+            this.executor.value().shutdownNow();
+            try {
+                this.executor.value().awaitTermination(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.commit();
+        this.channel.value().close();
+        final IOException failed = this.failure.getAndSet(null);
+        if (failed != null) {
+            throw new IOException("a commit of the journal failed", failed);
+        }
+    }
+
+    private void append(final ByteBuffer record) {
+        final IOException failed = this.failure.getAndSet(null);
+        if (failed != null) {
+            throw new UncheckedIOException(
+                "a commit of the journal failed, its changes were lost",
+                failed
+            );
+        }
+        if (this.once.compareAndSet(false, true)) {
+            this.executor.value().scheduleWithFixedDelay(
+                this::committed,
+                this.interval,
+                this.interval,
+                this.unit
+            );
+        }
+        while (!this.pending.offer(record)) {
+            try {
+                this.commit();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private void committed() {
+        try {
+            this.commit();
+        } catch (final IOException ex) {
+            this.failure.set(ex);
+        } catch (final UncheckedIOException ex) {
+            this.failure.set(ex.getCause());
+        }
+    }
+
+    private void write(final List<ByteBuffer> batch) throws IOException {
+        final ByteBuffer[] buffers = batch.toArray(new ByteBuffer[0]);
+        final FileChannel out = this.channel.value();
+        final long size = out.size();
+        try {
+            long remaining = batch.stream()
+                .mapToLong(ByteBuffer::remaining)
+                .sum();
+            while (remaining > 0L) {
+                remaining -= out.write(buffers);
+            }
+            out.force(false);
+        } catch (final IOException ex) {
+            try {
+                out.truncate(size);
+            } catch (final IOException undo) {
+                ex.addSuppressed(undo);
+            }
+            throw ex;
+        }
+    }
+
+    private void apply(
+        final Store<K, V> store,
+        final byte operation,
+        final byte[] key,
+        final byte[] value,
+        final byte[] meta
+    ) throws IOException {
+        if (operation != Journal.SAVE && operation != Journal.DELETE) {
+            throw new IOException(
+                String.format(
+                    "corrupted journal: unknown operation %d",
+                    operation
+                )
+            );
+        }
+        final Key<K> restored = this.keys.apply(key);
+        if (operation == Journal.SAVE) {
+            store.save(
+                restored,
+                new EntryOf<>(
+                    restored,
+                    this.values.apply(value),
+                    new Deserialized(() -> meta)
+                )
+            );
+        } else {
+            store.delete(restored);
+        }
+    }
+
+    private void rewrite(final Store<K, V> store) throws IOException {
+        final Path temp = this.path.resolveSibling(
+            String.format("%s.tmp", this.path.getFileName())
+        );
+        try (FileChannel out = FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            for (final Entry<K, V> entry : store.entries()) {
+                final ByteBuffer record = Journal.record(
+                    Journal.SAVE,
+                    new UncheckedBytes(entry.key().value()).asBytes(),
+                    new UncheckedBytes(entry.value()).asBytes(),
+                    new UncheckedBytes(new Serialized(entry.metadata()))
+                        .asBytes()
+                );
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(true);
+        }
+        Files.move(
+            temp,
+            this.path,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    private static byte[] bytes(final DataInputStream in, final int length)
+        throws IOException {
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static ByteBuffer record(
+        final byte operation,
+        final byte[] key,
+        final byte[] value,
+        final byte[] meta
+    ) {
+        return ByteBuffer.allocate(
+            1 + 3 * Integer.BYTES + key.length + value.length + meta.length
+        )
+            .put(operation)
+            .putInt(key.length)
+            .putInt(value.length)
+            .putInt(meta.length)
+            .put(key)
+            .put(value)
+            .put(meta)
+            .flip();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+
+/**
+ * Key decoded from its bytes, as when a store is reloaded.
+ * <p>A decoded value that is its own key (as {@link LongKey} and
+ * {@link IntKey}) is used as the key, so it is found by the keys looked up
+ * later; any other value is wrapped in a {@link KeyOf} that reuses the
+ * bytes it was decoded from instead of serializing it again.</p>
+ * @param <K> The key value type
+ * @since 0.0.14
+ */
+public final class Decoded<K extends Bytes> implements Func<byte[], Key<K>> {
+
+    /**
+     * Decoder of the key bytes.
+     */
+    private final Func<byte[], K> decoder;
+
+    /**
+     * Ctor.
+     * @param decoder Decoder of the key bytes
+     */
+    public Decoded(final Func<byte[], K> decoder) {
+        this.decoder = decoder;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Key<K> apply(final byte[] bytes) throws Exception {
+        final K value = this.decoder.apply(bytes);
+        final Key<K> key;
+        if (value instanceof Key && ((Key<?>) value).value() == value) {
+            key = (Key<K>) value;
+        } else {
+            key = new KeyOf<>(value, () -> bytes);
+        }
+        return key;
+    }
+}
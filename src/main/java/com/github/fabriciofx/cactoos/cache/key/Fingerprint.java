@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Hash;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.hash.MixedHash;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fingerprint of a key: its hash as a primitive 64-bit value.
+ * <p>64-bit hashes (as Xxh3BasedHash) are used as they are, wider ones (as
+ * Murmur3Hash) are folded with xor and any other hash falls back to its
+ * integer value. The hash of numeric keys ({@link MixedHash}) is read as a
+ * primitive, without boxing it.</p>
+ * @since 0.0.14
+ */
+public final class Fingerprint implements ToLongFunction<Object> {
+
+    @Override
+    public long applyAsLong(final Object key) {
+        final Hash<?> hash = Key.class.cast(key).hash();
+        long print = 0L;
+        if (hash instanceof MixedHash) {
+            print = ((MixedHash) hash).asLong();
+        } else if (hash.value() instanceof Long) {
+            print = (Long) hash.value();
+        } else if (hash.value() instanceof long[]) {
+            for (final long part : (long[]) hash.value()) {
+                print ^= part;
+            }
+        } else {
+            print = hash.asInt();
+        }
+        return print;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Hash;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.hash.MixedHash;
+import java.nio.ByteBuffer;
+import org.cactoos.Bytes;
+
+/**
+ * Key of a 32-bit number (as an ID).
+ * <p>It is its own value, so it is never serialized to be hashed or
+ * compared: the hash is the mixed number ({@link MixedHash}, read without
+ * boxing by {@link Fingerprint}) and two keys are equal when their numbers
+ * are. Its bytes (big-endian) are only built when asked for, as by a
+ * snapshot.</p>
+ * @since 0.0.14
+ */
+public final class IntKey implements Key<IntKey>, Bytes {
+
+    /**
+     * Number.
+     */
+    private final int num;
+
+    /**
+     * Hash.
+     */
+    private final MixedHash hsh;
+
+    /**
+     * Ctor.
+     * @param number The number
+     */
+    public IntKey(final int number) {
+        this.num = number;
+        this.hsh = new MixedHash(number);
+    }
+
+    /**
+     * Retrieve the number.
+     * @return The number
+     */
+    public int number() {
+        return this.num;
+    }
+
+    @Override
+    public IntKey value() {
+        return this;
+    }
+
+    @Override
+    public Hash<?> hash() {
+        return this.hsh;
+    }
+
+    @Override
+    public int size() {
+        return Integer.BYTES;
+    }
+
+    @Override
+    public byte[] asBytes() {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(this.num).array();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other
+            || other instanceof IntKey && ((IntKey) other).num == this.num;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hsh.asInt();
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(this.num);
+    }
+}
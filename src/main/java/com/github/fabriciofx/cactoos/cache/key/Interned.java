@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Pool of canonical keys.
+ * <p>It maps a key value to a single {@link KeyOf} instance, so repeated
+ * lookups of a hot key reuse its memoized bytes and hash, and compare
+ * equal by identity. Values are looked up by their own {@code equals} and
+ * {@code hashCode}: a lookup never serializes the value, which is done
+ * once, lazily, by the canonical key. Values whose {@code equals} is not
+ * based on their content are only interned by identity. The canonical
+ * keys are weakly referenced: a key nobody else holds is reclaimed by the
+ * garbage collector and dropped from the pool on the next access.</p>
+ * <p>There is no method to remove keys: the pool is thread-safe and
+ * never grows beyond the keys still in use.</p>
+ * @param <K> The key value type
+ * @since 0.0.14
+ */
+public final class Interned<K extends Bytes> {
+
+    /**
+     * Canonical keys by their values.
+     */
+    private final Map<K, Canonical<K>> keys;
+
+    /**
+     * Canonical keys reclaimed by the garbage collector.
+     */
+    private final ReferenceQueue<Key<K>> reclaimed;
+
+    /**
+     * Ctor.
+     */
+    public Interned() {
+        this.keys = new ConcurrentHashMap<>();
+        this.reclaimed = new ReferenceQueue<>();
+    }
+
+    /**
+     * Retrieve the canonical key of a value.
+     * @param value A key value
+     * @return The canonical key
+     */
+    public Key<K> key(final K value) {
+        this.purge();
+        Key<K> key = null;
+        while (key == null) {
+            final Canonical<K> ref = this.keys.get(value);
+            if (ref != null) {
+                key = ref.get();
+            }
+            if (key == null) {
+                final Key<K> fresh = new KeyOf<>(
+                    value, new Sticky<>(value::asBytes)
+                );
+                final Canonical<K> created = new Canonical<>(
+                    fresh, value, this.reclaimed
+                );
+                if (this.swap(value, ref, created)) {
+                    key = fresh;
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Amount of canonical keys in the pool.
+     * @return The amount of keys
+     */
+    public int size() {
+        this.purge();
+        return this.keys.size();
+    }
+
+    private boolean swap(
+        final K index,
+        final Canonical<K> stale,
+        final Canonical<K> fresh
+    ) {
+        final boolean swapped;
+        if (stale == null) {
+            swapped = this.keys.putIfAbsent(index, fresh) == null;
+        } else {
+            swapped = this.keys.replace(index, stale, fresh);
+        }
+        return swapped;
+    }
+
+    private void purge() {
+        Reference<? extends Key<K>> ref = this.reclaimed.poll();
+        while (ref != null) {
+            final Canonical<?> canonical = (Canonical<?>) ref;
+            this.keys.remove(canonical.index(), canonical);
+            ref = this.reclaimed.poll();
+        }
+    }
+
+    /**
+     * Weak reference to a canonical key that remembers its value.
+     * @param <K> The key value type
+     * @since 0.0.14
+     */
+    private static final class Canonical<K extends Bytes>
+        extends WeakReference<Key<K>> {
+
+        /**
+         * Value of the key.
+         */
+        private final K value;
+
+        /**
+         * Ctor.
+         * @param key The canonical key
+         * @param value The value of the key
+         * @param queue Queue to enqueue the reference when reclaimed
+         */
+        Canonical(
+            final Key<K> key,
+            final K value,
+            final ReferenceQueue<Key<K>> queue
+        ) {
+            super(key, queue);
+            this.value = value;
+        }
+
+        K index() {
+            return this.value;
+        }
+    }
+}
@@ -8,11 +8,18 @@ import com.github.fabriciofx.cactoos.cache.Hash;
 import com.github.fabriciofx.cactoos.cache.Key;
 import com.github.fabriciofx.cactoos.cache.hash.Xxh3BasedHash;
 import java.util.Arrays;
+import java.util.Objects;
 import org.cactoos.Bytes;
+import org.cactoos.Scalar;
 import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * KeyOf.
+ * <p>The value is serialized only once and its bytes are reused for
+ * hashing, equality and size. Equality compares the full hashes first, so
+ * the bytes are only compared when both keys have the same hash.</p>
  * @param <K> The key value type
  * @since 0.0.1
  */
@@ -30,16 +37,16 @@ public final class KeyOf<K extends Bytes> implements Key<K> {
     private final Hash<?> hsh;
 
     /**
-     * Bytes.
+     * Bytes, serialized only once.
      */
-    private final UncheckedBytes bytes;
+    private final Unchecked<byte[]> bytes;
 
     /**
      * Ctor.
      * @param value A value
      */
     public KeyOf(final K value) {
-        this(value, new Xxh3BasedHash(value));
+        this(value, new Sticky<>(value::asBytes));
     }
 
     /**
@@ -48,9 +55,32 @@ public final class KeyOf<K extends Bytes> implements Key<K> {
      * @param hash The hash algorithm
      */
     public KeyOf(final K value, final Hash<?> hash) {
+        this(value, hash, new Sticky<>(value::asBytes));
+    }
+
+    /**
+     * Ctor.
+     * @param value A value
+     * @param bytes The value serialized only once
+     */
+    public KeyOf(final K value, final Scalar<byte[]> bytes) {
+        this(value, new Xxh3BasedHash(bytes::value), bytes);
+    }
+
+    /**
+     * Ctor.
+     * @param value A value
+     * @param hash The hash algorithm
+     * @param bytes The value serialized only once
+     */
+    public KeyOf(
+        final K value,
+        final Hash<?> hash,
+        final Scalar<byte[]> bytes
+    ) {
         this.val = value;
         this.hsh = hash;
-        this.bytes = new UncheckedBytes(value);
+        this.bytes = new Unchecked<>(bytes);
     }
 
     @Override
@@ -65,16 +95,20 @@ public final class KeyOf<K extends Bytes> implements Key<K> {
 
     @Override
     public int size() {
-        return this.bytes.asBytes().length;
+        return this.bytes.value().length;
     }
 
     @Override
     public boolean equals(final Object other) {
         return this == other
             || other instanceof Key
+            && Objects.deepEquals(
+                this.hsh.value(),
+                Key.class.cast(other).hash().value()
+            )
             && Arrays.equals(
-                this.bytes.asBytes(),
-                new UncheckedBytes(Key.class.cast(other).value()).asBytes()
+                this.bytes.value(),
+                KeyOf.serialized(Key.class.cast(other))
             );
     }
 
@@ -82,4 +116,14 @@ public final class KeyOf<K extends Bytes> implements Key<K> {
     public int hashCode() {
         return this.hsh.asInt();
     }
+
+    static byte[] serialized(final Key<?> key) {
+        final byte[] bytes;
+        if (key instanceof KeyOf) {
+            bytes = ((KeyOf<?>) key).bytes.value();
+        } else {
+            bytes = new UncheckedBytes(key.value()).asBytes();
+        }
+        return bytes;
+    }
 }
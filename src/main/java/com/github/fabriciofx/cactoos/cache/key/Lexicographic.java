@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Lexicographic order of keys: by their bytes, compared as unsigned.
+ * <p>Keys sharing a prefix of bytes are contiguous in this order, so the
+ * keys under a prefix form a range. The bytes of a {@link KeyOf} are the
+ * ones it already serialized.</p>
+ * @since 0.0.14
+ */
+public final class Lexicographic implements Comparator<Key<?>> {
+
+    @Override
+    public int compare(final Key<?> first, final Key<?> second) {
+        return Arrays.compareUnsigned(
+            KeyOf.serialized(first),
+            KeyOf.serialized(second)
+        );
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Hash;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.hash.MixedHash;
+import java.nio.ByteBuffer;
+import org.cactoos.Bytes;
+
+/**
+ * Key of a 64-bit number (as an ID).
+ * <p>It is its own value, so it is never serialized to be hashed or
+ * compared: the hash is the mixed number ({@link MixedHash}, read without
+ * boxing by {@link Fingerprint}) and two keys are equal when their numbers
+ * are. Its bytes (big-endian) are only built when asked for, as by a
+ * snapshot.</p>
+ * @since 0.0.14
+ */
+public final class LongKey implements Key<LongKey>, Bytes {
+
+    /**
+     * Number.
+     */
+    private final long num;
+
+    /**
+     * Hash.
+     */
+    private final MixedHash hsh;
+
+    /**
+     * Ctor.
+     * @param number The number
+     */
+    public LongKey(final long number) {
+        this.num = number;
+        this.hsh = new MixedHash(number);
+    }
+
+    /**
+     * Retrieve the number.
+     * @return The number
+     */
+    public long number() {
+        return this.num;
+    }
+
+    @Override
+    public LongKey value() {
+        return this;
+    }
+
+    @Override
+    public Hash<?> hash() {
+        return this.hsh;
+    }
+
+    @Override
+    public int size() {
+        return Long.BYTES;
+    }
+
+    @Override
+    public byte[] asBytes() {
+        return ByteBuffer.allocate(Long.BYTES).putLong(this.num).array();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other
+            || other instanceof LongKey && ((LongKey) other).num == this.num;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hsh.asInt();
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(this.num);
+    }
+}
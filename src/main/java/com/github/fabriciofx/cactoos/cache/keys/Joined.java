@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.keys;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Bytes;
+import org.cactoos.list.ListOf;
+
+/**
+ * Keys of several stores seen as one.
+ * @param <K> The key value type
+ * @since 0.0.14
+ */
+public final class Joined<K extends Bytes> implements Keys<K> {
+
+    /**
+     * Keys.
+     */
+    private final List<Keys<K>> keys;
+
+    /**
+     * Ctor.
+     * @param keys The keys to join
+     */
+    @SafeVarargs
+    public Joined(final Keys<K>... keys) {
+        this(new ListOf<>(keys));
+    }
+
+    /**
+     * Ctor.
+     * @param keys The keys to join
+     */
+    public Joined(final List<Keys<K>> keys) {
+        this.keys = keys;
+    }
+
+    @Override
+    public int count() {
+        return this.keys.stream().mapToInt(Keys::count).sum();
+    }
+
+    @Override
+    public void clear() {
+        this.keys.forEach(Keys::clear);
+    }
+
+    @Override
+    public int size() {
+        return this.keys.stream().mapToInt(Keys::size).sum();
+    }
+
+    @Override
+    public Iterator<Key<K>> iterator() {
+        return new org.cactoos.iterable.Joined<>(this.keys).iterator();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.keys;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.journal.Journal;
+import java.util.Iterator;
+import org.cactoos.Bytes;
+
+/**
+ * Keys that record the cleared keys as deletes into a {@link Journal}.
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Journaled<K extends Bytes, V extends Bytes>
+    implements Keys<K> {
+
+    /**
+     * Keys.
+     */
+    private final Keys<K> origin;
+
+    /**
+     * Journal.
+     */
+    private final Journal<K, V> journal;
+
+    /**
+     * Ctor.
+     * @param keys The keys
+     * @param journal The journal
+     */
+    public Journaled(final Keys<K> keys, final Journal<K, V> journal) {
+        this.origin = keys;
+        this.journal = journal;
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public void clear() {
+        this.origin.forEach(this.journal::deleted);
+        this.origin.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public Iterator<Key<K>> iterator() {
+        return this.origin.iterator();
+    }
+}
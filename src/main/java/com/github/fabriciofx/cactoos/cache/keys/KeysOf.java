@@ -9,6 +9,7 @@ import com.github.fabriciofx.cactoos.cache.Keys;
 import java.util.Iterator;
 import java.util.Set;
 import org.cactoos.Bytes;
+import org.cactoos.Scalar;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.number.SumOf;
 import org.cactoos.scalar.Sticky;
@@ -36,19 +37,29 @@ public final class KeysOf<K extends Bytes> implements Keys<K> {
      * @param keys The keys
      */
     public KeysOf(final Set<Key<K>> keys) {
-        this.keys = keys;
-        this.sze = new Unchecked<>(
+        this(
+            keys,
             new Sticky<>(
                 () -> new SumOf(
                     new Mapped<>(
                         Key::size,
-                        this.keys
+                        keys
                     )
                 ).intValue()
             )
         );
     }
 
+    /**
+     * Ctor.
+     * @param keys The keys
+     * @param size The size of the keys in bytes
+     */
+    public KeysOf(final Set<Key<K>> keys, final Scalar<Integer> size) {
+        this.keys = keys;
+        this.sze = new Unchecked<>(size);
+    }
+
     @Override
     public int count() {
         return this.keys.size();
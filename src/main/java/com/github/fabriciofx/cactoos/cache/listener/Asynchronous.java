@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.listener;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Bytes;
+
+/**
+ * Listener that receives the removed entries on an executor.
+ * <p>The removal never waits for the listener, so it can do slow work (as
+ * writing the entry back to a database) without stalling the cache.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Asynchronous<K extends Bytes, V extends Bytes>
+    implements Listener<K, V> {
+
+    /**
+     * Listener.
+     */
+    private final Listener<K, V> origin;
+
+    /**
+     * Executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param listener The listener
+     */
+    public Asynchronous(final Listener<K, V> listener) {
+        this(listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param listener The listener
+     * @param executor The executor that runs the listener
+     */
+    public Asynchronous(
+        final Listener<K, V> listener,
+        final Executor executor
+    ) {
+        this.origin = listener;
+        this.executor = executor;
+    }
+
+    @Override
+    public void removed(final Entry<K, V> entry, final Cause cause) {
+        this.executor.execute(() -> this.origin.removed(entry, cause));
+    }
+}
@@ -4,20 +4,25 @@
  */
 package com.github.fabriciofx.cactoos.cache.map;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.cactoos.map.MapEntry;
 
 /**
  * Thread-safe Map that preserves insertion order.
  * <p>This implementation uses a {@link LinkedHashMap} for insertion-order
  * iteration and a {@link ReentrantLock} for thread safety.</p>
+ * <p>{@link #keySet()}, {@link #values()} and {@link #entrySet()} are live
+ * views: size, lookups and removals go through the map without copying it.
+ * Since a {@link LinkedHashMap} can't be traversed while other threads
+ * modify it, iterating a view still copies the entries, but only when the
+ * iteration starts. Use {@link StripedLinkedMap} for copy-free iteration.</p>
  * @param <K> The key type
  * @param <V> The value type
  * @since 0.0.13
@@ -131,66 +136,69 @@ public final class ConcurrentLinkedMap<K, V> implements Map<K, V> {
     }
 
     @Override
-    public void putAll(final Map<? extends K, ? extends V> src) {
+    public boolean remove(final Object key, final Object value) {
         this.lock.lock();
         try {
-            this.map.putAll(src);
+            return this.map.remove(key, value);
         } finally {
             this.lock.unlock();
         }
     }
 
     @Override
-    public void clear() {
+    public void putAll(final Map<? extends K, ? extends V> src) {
         this.lock.lock();
         try {
-            this.map.clear();
+            this.map.putAll(src);
         } finally {
             this.lock.unlock();
         }
     }
 
     @Override
-    public Set<K> keySet() {
+    public void clear() {
         this.lock.lock();
         try {
-            return Collections.unmodifiableSet(
-                new LinkedHashSet<>(this.map.keySet())
-            );
+            this.map.clear();
         } finally {
             this.lock.unlock();
         }
     }
 
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this::snapshot);
+    }
+
     @Override
     public Collection<V> values() {
-        this.lock.lock();
-        try {
-            return Collections.unmodifiableList(
-                new ArrayList<>(this.map.values())
-            );
-        } finally {
-            this.lock.unlock();
-        }
+        return new ValuesView<>(this, this::snapshot);
     }
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this::snapshot);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
         this.lock.lock();
         try {
-            return Collections.unmodifiableSet(
-                new LinkedHashSet<>(this.map.entrySet())
-            );
+            return this.map.getOrDefault(key, def);
         } finally {
             this.lock.unlock();
         }
     }
 
-    @Override
-    public V getOrDefault(final Object key, final V def) {
+    private Iterator<Map.Entry<K, V>> snapshot() {
         this.lock.lock();
         try {
-            return this.map.getOrDefault(key, def);
+            return this.map.entrySet().stream()
+                .<Map.Entry<K, V>>map(
+                    entry -> new MapEntry<>(entry.getKey(), entry.getValue())
+                )
+                .collect(Collectors.toList())
+                .iterator();
         } finally {
             this.lock.unlock();
         }
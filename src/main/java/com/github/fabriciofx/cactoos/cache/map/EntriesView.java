@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Live entry set view of a Map.
+ * <p>Nothing is copied: iteration traverses the map entries lazily and
+ * removals go through the map.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+public final class EntriesView<K, V> extends AbstractSet<Map.Entry<K, V>> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> map;
+
+    /**
+     * Map entries in iteration order.
+     */
+    private final Iterable<Map.Entry<K, V>> entries;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param entries The map entries in iteration order
+     */
+    public EntriesView(
+        final Map<K, V> map,
+        final Iterable<Map.Entry<K, V>> entries
+    ) {
+        super();
+        this.map = map;
+        this.entries = entries;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new ViewIterator<>(
+            this.map,
+            this.entries.iterator(),
+            Function.identity()
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+}
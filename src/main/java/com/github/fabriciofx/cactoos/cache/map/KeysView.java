@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Live key set view of a Map.
+ * <p>Nothing is copied: iteration traverses the map entries lazily and
+ * removals go through the map.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+public final class KeysView<K, V> extends AbstractSet<K> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> map;
+
+    /**
+     * Map entries in iteration order.
+     */
+    private final Iterable<Map.Entry<K, V>> entries;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param entries The map entries in iteration order
+     */
+    public KeysView(
+        final Map<K, V> map,
+        final Iterable<Map.Entry<K, V>> entries
+    ) {
+        super();
+        this.map = map;
+        this.entries = entries;
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        return new ViewIterator<>(
+            this.map,
+            this.entries.iterator(),
+            Map.Entry::getKey
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean remove(final Object key) {
+        return this.map.remove(key) != null;
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Map that keeps running totals of the size of its keys and values.
+ * <p>Every insertion, replacement and removal (including the ones made
+ * through its views) adjusts the totals, so the size of the content is
+ * known without measuring it again.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ * @checkstyle ParameterNumberCheck (100 lines)
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "InvalidBlockTag"})
+public final class MeasuredMap<K, V> implements Map<K, V> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> origin;
+
+    /**
+     * Size of a key.
+     */
+    private final ToLongFunction<K> ksize;
+
+    /**
+     * Size of a value.
+     */
+    private final ToLongFunction<V> vsize;
+
+    /**
+     * Total size of the keys.
+     */
+    private final AtomicLong keys;
+
+    /**
+     * Total size of the values.
+     */
+    private final AtomicLong values;
+
+    /**
+     * Ctor.
+     * @param map The backing map, with its content already measured
+     * @param ksize Size of a key
+     * @param vsize Size of a value
+     * @param keys Total size of the keys
+     * @param values Total size of the values
+     */
+    public MeasuredMap(
+        final Map<K, V> map,
+        final ToLongFunction<K> ksize,
+        final ToLongFunction<V> vsize,
+        final AtomicLong keys,
+        final AtomicLong values
+    ) {
+        this.origin = map;
+        this.ksize = ksize;
+        this.vsize = vsize;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.origin.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.origin.containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.origin.get(key);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final V old = this.origin.put(key, value);
+        if (old == null) {
+            this.keys.addAndGet(this.ksize.applyAsLong(key));
+        } else {
+            this.values.addAndGet(-this.vsize.applyAsLong(old));
+        }
+        this.values.addAndGet(this.vsize.applyAsLong(value));
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        final V old = this.origin.remove(key);
+        if (old != null) {
+            this.keys.addAndGet(-this.ksize.applyAsLong((K) key));
+            this.values.addAndGet(-this.vsize.applyAsLong(old));
+        }
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(final Object key, final Object value) {
+        final boolean removed = this.origin.remove(key, value);
+        if (removed) {
+            this.keys.addAndGet(-this.ksize.applyAsLong((K) key));
+            this.values.addAndGet(-this.vsize.applyAsLong((V) value));
+        }
+        return removed;
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        new ArrayList<>(this.origin.keySet()).forEach(this::remove);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
+        return this.origin.getOrDefault(key, def);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Map that tells when one of its values leaves it.
+ * <p>The action runs for every value removed or replaced, including the
+ * ones removed through its views or by {@link #clear()}, so resources tied
+ * to a value can be released wherever the removal comes from. The action
+ * may also receive the key the value was stored under.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class ObservedMap<K, V> implements Map<K, V> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> origin;
+
+    /**
+     * Action to run on a key and its value that left the map.
+     */
+    private final BiConsumer<K, V> removed;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param removed Action to run on a value that left the map
+     */
+    public ObservedMap(final Map<K, V> map, final Consumer<V> removed) {
+        this(map, (key, value) -> removed.accept(value));
+    }
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param removed Action to run on a key and its value that left the map
+     */
+    public ObservedMap(final Map<K, V> map, final BiConsumer<K, V> removed) {
+        this.origin = map;
+        this.removed = removed;
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.origin.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.origin.containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.origin.get(key);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final V old = this.origin.put(key, value);
+        if (old != null) {
+            this.removed.accept(key, old);
+        }
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        final V old = this.origin.remove(key);
+        if (old != null) {
+            this.removed.accept((K) key, old);
+        }
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(final Object key, final Object value) {
+        final boolean removed = this.origin.remove(key, value);
+        if (removed) {
+            this.removed.accept((K) key, (V) value);
+        }
+        return removed;
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        new ArrayList<>(this.origin.keySet()).forEach(this::remove);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
+        return this.origin.getOrDefault(key, def);
+    }
+}
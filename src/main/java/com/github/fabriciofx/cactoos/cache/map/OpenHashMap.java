@@ -0,0 +1,516 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Open-addressing Map indexed by a primitive 64-bit hash of its keys.
+ * <p>Keys, values and hashes live in flat arrays probed linearly, so an
+ * entry costs no node object. The 64-bit hashes are compared before the
+ * keys, which are only compared (with {@code equals()}) when the hashes
+ * match. Insertion order is kept in an append-only log of slots, so
+ * iteration yields the oldest key first, as in {@link StripedLinkedMap}.
+ * </p>
+ * <p>Lookups share a read lock and writes take a write lock. The views are
+ * live and weakly-consistent: they copy nothing and only hold the read
+ * lock while fetching each entry.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class OpenHashMap<K, V> implements Map<K, V> {
+
+    /**
+     * Hash of a key.
+     */
+    private final ToLongFunction<Object> hasher;
+
+    /**
+     * Lock.
+     */
+    private final ReadWriteLock lock;
+
+    /**
+     * Table.
+     */
+    private final Table table;
+
+    /**
+     * Ctor.
+     * @param hasher The 64-bit hash of a key
+     */
+    public OpenHashMap(final ToLongFunction<Object> hasher) {
+        this(hasher, 16);
+    }
+
+    /**
+     * Ctor.
+     * @param hasher The 64-bit hash of a key
+     * @param capacity Initial capacity (rounded up to a power of two)
+     */
+    public OpenHashMap(
+        final ToLongFunction<Object> hasher,
+        final int capacity
+    ) {
+        this.hasher = hasher;
+        this.lock = new ReentrantReadWriteLock();
+        this.table = new Table(capacity);
+    }
+
+    @Override
+    public int size() {
+        return this.read(() -> this.table.live);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final long hash = this.hasher.applyAsLong(key);
+        return this.read(() -> this.table.find(key, hash) >= 0);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.values().contains(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.getOrDefault(key, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final K key, final V value) {
+        final long hash = this.hasher.applyAsLong(key);
+        return this.write(() -> (V) this.table.put(key, hash, value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        final long hash = this.hasher.applyAsLong(key);
+        return this.write(() -> (V) this.table.remove(key, hash));
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final long hash = this.hasher.applyAsLong(key);
+        return this.write(
+            () -> {
+                final int slot = this.table.find(key, hash);
+                final boolean removed = slot >= 0
+                    && Objects.equals(this.table.values[slot], value);
+                if (removed) {
+                    this.table.remove(key, hash);
+                }
+                return removed;
+            }
+        );
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        this.write(
+            () -> {
+                this.table.clear();
+                return null;
+            }
+        );
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, Cursor::new);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, Cursor::new);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, Cursor::new);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final Object key, final V def) {
+        final long hash = this.hasher.applyAsLong(key);
+        return this.read(
+            () -> {
+                final int slot = this.table.find(key, hash);
+                final V value;
+                if (slot < 0) {
+                    value = def;
+                } else {
+                    value = (V) this.table.values[slot];
+                }
+                return value;
+            }
+        );
+    }
+
+    private <T> T read(final Supplier<T> action) {
+        final Lock rlock = this.lock.readLock();
+        rlock.lock();
+        try {
+            return action.get();
+        } finally {
+            rlock.unlock();
+        }
+    }
+
+    private <T> T write(final Supplier<T> action) {
+        final Lock wlock = this.lock.writeLock();
+        wlock.lock();
+        try {
+            return action.get();
+        } finally {
+            wlock.unlock();
+        }
+    }
+
+    /**
+     * Weakly-consistent iterator over the entries in insertion order.
+     * <p>It remembers the sequence number of the last entry returned, so it
+     * resumes at the right place even after the table is rebuilt.</p>
+     * @since 0.0.14
+     */
+    private final class Cursor implements Iterator<Map.Entry<K, V>> {
+
+        /**
+         * Position in the log.
+         */
+        private int pos;
+
+        /**
+         * Generation of the table the position refers to.
+         */
+        private int generation;
+
+        /**
+         * Sequence number of the last entry returned.
+         */
+        private long last;
+
+        /**
+         * Next entry, if already fetched.
+         */
+        private Map.Entry<K, V> fetched;
+
+        /**
+         * Ctor.
+         */
+        Cursor() {
+            this.pos = -1;
+            this.generation = -1;
+            this.last = 0L;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.fetched == null) {
+                this.fetched = OpenHashMap.this.read(this::fetch);
+            }
+            return this.fetched != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("#next(): no more entries");
+            }
+            final Map.Entry<K, V> entry = this.fetched;
+            this.fetched = null;
+            return entry;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map.Entry<K, V> fetch() {
+            final Table tbl = OpenHashMap.this.table;
+            if (this.generation != tbl.generation) {
+                this.pos = tbl.after(this.last);
+                this.generation = tbl.generation;
+            }
+            this.pos = tbl.alive(this.pos);
+            final Map.Entry<K, V> entry;
+            if (this.pos < tbl.tail) {
+                final int slot = tbl.log[this.pos];
+                entry = new MapEntry<>(
+                    (K) tbl.keys[slot],
+                    (V) tbl.values[slot]
+                );
+                this.last = tbl.logseq[this.pos];
+                this.pos += 1;
+            } else {
+                entry = null;
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Flat arrays holding the entries, guarded by the map lock.
+     * @since 0.0.14
+     * @checkstyle VisibilityModifierCheck (100 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    private static final class Table {
+
+        /**
+         * Marker of a removed slot.
+         */
+        private static final Object TOMBSTONE = new Object();
+
+        /**
+         * Hashes by slot.
+         */
+        private long[] hashes;
+
+        /**
+         * Keys by slot ({@code null} if empty).
+         */
+        private Object[] keys;
+
+        /**
+         * Values by slot.
+         */
+        private Object[] values;
+
+        /**
+         * Insertion sequence by slot.
+         */
+        private long[] seqs;
+
+        /**
+         * Slots in insertion order, removed ones included.
+         */
+        private int[] log;
+
+        /**
+         * Insertion sequence of each log position.
+         */
+        private long[] logseq;
+
+        /**
+         * First log position that may be alive.
+         */
+        private int head;
+
+        /**
+         * Next free log position.
+         */
+        private int tail;
+
+        /**
+         * Amount of live entries.
+         */
+        private int live;
+
+        /**
+         * Amount of removed slots.
+         */
+        private int tombs;
+
+        /**
+         * Last insertion sequence.
+         */
+        private long sequence;
+
+        /**
+         * Number of times the arrays were rebuilt.
+         */
+        private int generation;
+
+        /**
+         * Ctor.
+         * @param capacity Initial capacity
+         */
+        Table(final int capacity) {
+            this.allocate(Table.power(Math.max(capacity, 2)));
+        }
+
+        int find(final Object key, final long hash) {
+            final int mask = this.keys.length - 1;
+            int slot = Table.index(hash, mask);
+            int found = -1;
+            while (this.keys[slot] != null) {
+                if (this.hashes[slot] == hash
+                    && this.keys[slot] != Table.TOMBSTONE
+                    && key.equals(this.keys[slot])) {
+                    found = slot;
+                    break;
+                }
+                slot = slot + 1 & mask;
+            }
+            return found;
+        }
+
+        Object put(final Object key, final long hash, final Object value) {
+            final int slot = this.find(key, hash);
+            final Object old;
+            if (slot < 0) {
+                if ((this.live + this.tombs + 1) * 4 > this.keys.length * 3
+                    || this.tail == this.log.length) {
+                    this.rebuild();
+                }
+                this.sequence += 1;
+                this.insert(key, hash, value, this.sequence);
+                this.live += 1;
+                old = null;
+            } else {
+                old = this.values[slot];
+                this.values[slot] = value;
+            }
+            return old;
+        }
+
+        Object remove(final Object key, final long hash) {
+            final int slot = this.find(key, hash);
+            final Object old;
+            if (slot < 0) {
+                old = null;
+            } else {
+                old = this.values[slot];
+                this.keys[slot] = Table.TOMBSTONE;
+                this.values[slot] = null;
+                this.live -= 1;
+                this.tombs += 1;
+                this.head = this.alive(this.head);
+            }
+            return old;
+        }
+
+        void clear() {
+            this.allocate(16);
+            this.head = 0;
+            this.tail = 0;
+            this.live = 0;
+            this.tombs = 0;
+            this.generation += 1;
+        }
+
+        int alive(final int pos) {
+            int next = Math.max(pos, this.head);
+            while (next < this.tail) {
+                final int slot = this.log[next];
+                final Object key = this.keys[slot];
+                if (key != null && key != Table.TOMBSTONE
+                    && this.seqs[slot] == this.logseq[next]) {
+                    break;
+                }
+                next += 1;
+            }
+            return next;
+        }
+
+        int after(final long seq) {
+            final int found = Arrays.binarySearch(
+                this.logseq, this.head, this.tail, seq + 1
+            );
+            final int pos;
+            if (found < 0) {
+                pos = -found - 1;
+            } else {
+                pos = found;
+            }
+            return pos;
+        }
+
+        private void insert(
+            final Object key,
+            final long hash,
+            final Object value,
+            final long seq
+        ) {
+            final int mask = this.keys.length - 1;
+            int slot = Table.index(hash, mask);
+            while (this.keys[slot] != null
+                && this.keys[slot] != Table.TOMBSTONE) {
+                slot = slot + 1 & mask;
+            }
+            if (this.keys[slot] == Table.TOMBSTONE) {
+                this.tombs -= 1;
+            }
+            this.hashes[slot] = hash;
+            this.keys[slot] = key;
+            this.values[slot] = value;
+            this.seqs[slot] = seq;
+            this.log[this.tail] = slot;
+            this.logseq[this.tail] = seq;
+            this.tail += 1;
+        }
+
+        private void rebuild() {
+            final Object[] okeys = this.keys;
+            final Object[] ovalues = this.values;
+            final long[] ohashes = this.hashes;
+            final int[] olog = Arrays.copyOfRange(
+                this.log, this.head, this.tail
+            );
+            final long[] ologseq = Arrays.copyOfRange(
+                this.logseq, this.head, this.tail
+            );
+            final long[] oseqs = this.seqs;
+            this.allocate(Table.power(Math.max((this.live + 1) * 2, 16)));
+            this.head = 0;
+            this.tail = 0;
+            this.tombs = 0;
+            for (int pos = 0; pos < olog.length; ++pos) {
+                final int slot = olog[pos];
+                final Object key = okeys[slot];
+                if (key != null && key != Table.TOMBSTONE
+                    && oseqs[slot] == ologseq[pos]) {
+                    this.insert(
+                        key, ohashes[slot], ovalues[slot], ologseq[pos]
+                    );
+                }
+            }
+            this.generation += 1;
+        }
+
+        private void allocate(final int capacity) {
+            this.hashes = new long[capacity];
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+            this.seqs = new long[capacity];
+            this.log = new int[capacity];
+            this.logseq = new long[capacity];
+        }
+
+        private static int index(final long hash, final int mask) {
+            return (int) (hash ^ hash >>> 32) & mask;
+        }
+
+        private static int power(final int capacity) {
+            return Integer.highestOneBit(capacity - 1) << 1;
+        }
+    }
+}
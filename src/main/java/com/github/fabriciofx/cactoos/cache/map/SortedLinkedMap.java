@@ -0,0 +1,339 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Thread-safe Map sorted by its keys that also preserves insertion order.
+ * <p>It works as {@link StripedLinkedMap} (writes lock the stripe their key
+ * hashes to and iteration yields the oldest key first), but the values are
+ * kept in a {@link ConcurrentSkipListMap} sorted by a comparator, so
+ * {@link #range(Object, Object)} returns the keys between two bounds in
+ * O(log n + k) instead of scanning the whole map.</p>
+ * <p>A range is a live view of this map, iterated in key order: its
+ * removals (and its {@link #clear()}) remove the keys of the range from this
+ * map, and a put of a key out of its bounds throws an
+ * {@link IllegalArgumentException}.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class SortedLinkedMap<K, V> implements Map<K, V> {
+
+    /**
+     * Locks (stripes).
+     */
+    private final List<Lock> locks;
+
+    /**
+     * Values indexed by key, tagged with their insertion sequence.
+     */
+    private final ConcurrentNavigableMap<K, Map.Entry<Long, V>> nodes;
+
+    /**
+     * Keys indexed by insertion sequence.
+     */
+    private final NavigableMap<Long, K> order;
+
+    /**
+     * Insertion sequence.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Whether this is the whole map (and not a range of it).
+     */
+    private final boolean whole;
+
+    /**
+     * Ctor.
+     * @param comparator The comparator of the keys
+     */
+    public SortedLinkedMap(final Comparator<? super K> comparator) {
+        this(comparator, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Ctor.
+     * @param comparator The comparator of the keys
+     * @param stripes Number of stripes (locks)
+     */
+    public SortedLinkedMap(
+        final Comparator<? super K> comparator,
+        final int stripes
+    ) {
+        this(
+            IntStream.range(0, Math.max(1, stripes))
+                .mapToObj(idx -> new ReentrantLock())
+                .collect(Collectors.toList()),
+            new ConcurrentSkipListMap<>(comparator),
+            new ConcurrentSkipListMap<>(),
+            new AtomicLong(0L),
+            true
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param locks The locks to use as stripes
+     * @param nodes The values indexed by key
+     * @param order The keys indexed by insertion sequence
+     * @param sequence The insertion sequence
+     * @param whole Whether this is the whole map
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    private SortedLinkedMap(
+        final List<Lock> locks,
+        final ConcurrentNavigableMap<K, Map.Entry<Long, V>> nodes,
+        final NavigableMap<Long, K> order,
+        final AtomicLong sequence,
+        final boolean whole
+    ) {
+        this.locks = locks;
+        this.nodes = nodes;
+        this.order = order;
+        this.sequence = sequence;
+        this.whole = whole;
+    }
+
+    /**
+     * Retrieve the keys between two bounds.
+     * @param from The lowest key (inclusive)
+     * @param to The highest key (exclusive) or {@code null} for no bound
+     * @return A live view of the map restricted to the bounds
+     */
+    public SortedLinkedMap<K, V> range(final K from, final K to) {
+        final ConcurrentNavigableMap<K, Map.Entry<Long, V>> sub;
+        if (to == null) {
+            sub = this.nodes.tailMap(from, true);
+        } else {
+            sub = this.nodes.subMap(from, true, to, false);
+        }
+        return new SortedLinkedMap<>(
+            this.locks,
+            sub,
+            this.order,
+            this.sequence,
+            false
+        );
+    }
+
+    /**
+     * Retrieve the value inserted first.
+     * <p>On a range, iterated in key order, it visits every key of the
+     * range.</p>
+     * @param def The value to return if the map is empty
+     * @return The value inserted first or the default value
+     */
+    public V oldest(final V def) {
+        V oldest = def;
+        if (this.whole) {
+            final Iterator<V> values = this.values().iterator();
+            if (values.hasNext()) {
+                oldest = values.next();
+            }
+        } else {
+            long first = Long.MAX_VALUE;
+            for (final Map.Entry<Long, V> node : this.nodes.values()) {
+                if (node.getKey() < first) {
+                    first = node.getKey();
+                    oldest = node.getValue();
+                }
+            }
+        }
+        return oldest;
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.nodes.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.nodes.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.nodes.values().stream()
+            .anyMatch(node -> node.getValue().equals(value));
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.getOrDefault(key, null);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> prev = this.nodes.get(key);
+            final V old;
+            if (prev == null) {
+                final long seq = this.sequence.incrementAndGet();
+                this.nodes.put(key, new MapEntry<>(seq, value));
+                this.order.put(seq, key);
+                old = null;
+            } else {
+                this.nodes.put(key, new MapEntry<>(prev.getKey(), value));
+                old = prev.getValue();
+            }
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> node = this.nodes.remove(key);
+            final V old;
+            if (node == null) {
+                old = null;
+            } else {
+                this.order.remove(node.getKey());
+                old = node.getValue();
+            }
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> node = this.nodes.get(key);
+            final boolean removed = node != null
+                && Objects.equals(node.getValue(), value);
+            if (removed) {
+                this.nodes.remove(key);
+                this.order.remove(node.getKey());
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        if (this.whole) {
+            this.locks.forEach(Lock::lock);
+            try {
+                this.order.clear();
+                this.nodes.clear();
+            } finally {
+                this.locks.forEach(Lock::unlock);
+            }
+        } else {
+            new ArrayList<>(this.nodes.keySet()).forEach(this::remove);
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this::ordered);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, this::ordered);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this::ordered);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
+        final Map.Entry<Long, V> node = this.nodes.get(key);
+        final V value;
+        if (node == null) {
+            value = def;
+        } else {
+            value = node.getValue();
+        }
+        return value;
+    }
+
+    private Iterator<Map.Entry<K, V>> ordered() {
+        final Iterator<Map.Entry<K, V>> ordered;
+        if (this.whole) {
+            ordered = this.order.entrySet().stream()
+                .flatMap(this::live)
+                .iterator();
+        } else {
+            ordered = this.nodes.entrySet().stream()
+                .map(
+                    node -> (Map.Entry<K, V>) new MapEntry<>(
+                        node.getKey(),
+                        node.getValue().getValue()
+                    )
+                )
+                .iterator();
+        }
+        return ordered;
+    }
+
+    private Stream<Map.Entry<K, V>> live(final Map.Entry<Long, K> item) {
+        final Map.Entry<Long, V> node = this.nodes.get(item.getValue());
+        final Stream<Map.Entry<K, V>> live;
+        if (node == null || !node.getKey().equals(item.getKey())) {
+            live = Stream.empty();
+        } else {
+            live = Stream.of(
+                new MapEntry<>(item.getValue(), node.getValue())
+            );
+        }
+        return live;
+    }
+
+    private Lock stripe(final Object key) {
+        final int hash = key.hashCode();
+        return this.locks.get(
+            Math.floorMod(hash ^ hash >>> 16, this.locks.size())
+        );
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Thread-safe Map that preserves insertion order using lock striping.
+ * <p>Lookups go straight to a {@link ConcurrentHashMap} without locking and
+ * writes only lock the stripe their key hashes to, so operations on
+ * different keys proceed in parallel. Insertion order is kept in a
+ * {@link ConcurrentSkipListMap} indexed by a monotonic sequence number, so
+ * iteration yields the oldest key first, as in {@link ConcurrentLinkedMap}.
+ * </p>
+ * <p>{@link #keySet()}, {@link #values()} and {@link #entrySet()} are live,
+ * weakly-consistent views: they copy nothing, never block writers and
+ * reflect some of the modifications made while they are traversed.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class StripedLinkedMap<K, V> implements Map<K, V> {
+
+    /**
+     * Locks (stripes).
+     */
+    private final List<Lock> locks;
+
+    /**
+     * Values indexed by key, tagged with their insertion sequence.
+     */
+    private final Map<K, Map.Entry<Long, V>> nodes;
+
+    /**
+     * Keys indexed by insertion sequence.
+     */
+    private final NavigableMap<Long, K> order;
+
+    /**
+     * Insertion sequence.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Ctor.
+     */
+    public StripedLinkedMap() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Ctor.
+     * @param stripes Number of stripes (locks)
+     */
+    public StripedLinkedMap(final int stripes) {
+        this(
+            IntStream.range(0, Math.max(1, stripes))
+                .mapToObj(idx -> new ReentrantLock())
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param locks The locks to use as stripes
+     */
+    public StripedLinkedMap(final List<Lock> locks) {
+        this.locks = locks;
+        this.nodes = new ConcurrentHashMap<>();
+        this.order = new ConcurrentSkipListMap<>();
+        this.sequence = new AtomicLong(0L);
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.nodes.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.nodes.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.nodes.values().stream()
+            .anyMatch(node -> node.getValue().equals(value));
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.getOrDefault(key, null);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> prev = this.nodes.get(key);
+            final V old;
+            if (prev == null) {
+                final long seq = this.sequence.incrementAndGet();
+                this.nodes.put(key, new MapEntry<>(seq, value));
+                this.order.put(seq, key);
+                old = null;
+            } else {
+                this.nodes.put(key, new MapEntry<>(prev.getKey(), value));
+                old = prev.getValue();
+            }
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> node = this.nodes.remove(key);
+            final V old;
+            if (node == null) {
+                old = null;
+            } else {
+                this.order.remove(node.getKey());
+                old = node.getValue();
+            }
+            return old;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final Lock lock = this.stripe(key);
+        lock.lock();
+        try {
+            final Map.Entry<Long, V> node = this.nodes.get(key);
+            final boolean removed = node != null
+                && Objects.equals(node.getValue(), value);
+            if (removed) {
+                this.nodes.remove(key);
+                this.order.remove(node.getKey());
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        this.locks.forEach(Lock::lock);
+        try {
+            this.order.clear();
+            this.nodes.clear();
+        } finally {
+            this.locks.forEach(Lock::unlock);
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this::ordered);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, this::ordered);
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this::ordered);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
+        final Map.Entry<Long, V> node = this.nodes.get(key);
+        final V value;
+        if (node == null) {
+            value = def;
+        } else {
+            value = node.getValue();
+        }
+        return value;
+    }
+
+    private Iterator<Map.Entry<K, V>> ordered() {
+        return this.order.entrySet().stream()
+            .flatMap(this::live)
+            .iterator();
+    }
+
+    private Stream<Map.Entry<K, V>> live(final Map.Entry<Long, K> item) {
+        final Map.Entry<Long, V> node = this.nodes.get(item.getValue());
+        final Stream<Map.Entry<K, V>> live;
+        if (node == null || !node.getKey().equals(item.getKey())) {
+            live = Stream.empty();
+        } else {
+            live = Stream.of(
+                new MapEntry<>(item.getValue(), node.getValue())
+            );
+        }
+        return live;
+    }
+
+    private Lock stripe(final Object key) {
+        final int hash = key.hashCode();
+        return this.locks.get(
+            Math.floorMod(hash ^ hash >>> 16, this.locks.size())
+        );
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Map that indexes its keys by the tags of their values.
+ * <p>The index maps each tag to the keys whose value carries it and is kept
+ * up to date on every put and removal (including the ones made through its
+ * views), so the keys with a tag are found without scanning the map. Writes
+ * to a key and the update of its tags happen under the lock of the stripe
+ * the key hashes to, so the index never misses a key.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class TaggedMap<K, V> implements Map<K, V> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> origin;
+
+    /**
+     * Tags of a value.
+     */
+    private final Function<V, Collection<?>> tags;
+
+    /**
+     * Keys by tag.
+     */
+    private final Map<Object, Set<K>> index;
+
+    /**
+     * Locks (stripes).
+     */
+    private final List<Lock> locks;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param tags The tags of a value
+     */
+    public TaggedMap(
+        final Map<K, V> map,
+        final Function<V, Collection<?>> tags
+    ) {
+        this(map, tags, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param tags The tags of a value
+     * @param stripes Number of stripes (locks)
+     */
+    public TaggedMap(
+        final Map<K, V> map,
+        final Function<V, Collection<?>> tags,
+        final int stripes
+    ) {
+        this.origin = map;
+        this.tags = tags;
+        this.index = new ConcurrentHashMap<>();
+        this.locks = IntStream.range(0, Math.max(1, stripes))
+            .mapToObj(idx -> new ReentrantLock())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve the keys whose value carries a tag.
+     * @param tag The tag
+     * @return A copy of the keys
+     */
+    public Set<K> tagged(final Object tag) {
+        final Set<K> keys = this.index.get(tag);
+        final Set<K> found;
+        if (keys == null) {
+            found = Collections.emptySet();
+        } else {
+            found = Set.copyOf(keys);
+        }
+        return found;
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.origin.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.origin.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.origin.containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.origin.get(key);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        return this.locked(
+            key,
+            () -> {
+                final V old = this.origin.put(key, value);
+                if (old != null) {
+                    this.untag(key, old);
+                }
+                this.tag(key, value);
+                return old;
+            }
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        return this.locked(
+            key,
+            () -> {
+                final V old = this.origin.remove(key);
+                if (old != null) {
+                    this.untag((K) key, old);
+                }
+                return old;
+            }
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean remove(final Object key, final Object value) {
+        return this.locked(
+            key,
+            () -> {
+                final boolean removed = this.origin.remove(key, value);
+                if (removed) {
+                    this.untag((K) key, (V) value);
+                }
+                return removed;
+            }
+        );
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> src) {
+        src.forEach(this::put);
+    }
+
+    @Override
+    public void clear() {
+        new ArrayList<>(this.origin.keySet()).forEach(this::remove);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeysView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new ValuesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new EntriesView<>(this, this.origin.entrySet());
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V def) {
+        return this.origin.getOrDefault(key, def);
+    }
+
+    private void tag(final K key, final V value) {
+        for (final Object tag : this.tags.apply(value)) {
+            this.index.compute(
+                tag,
+                (item, keys) -> {
+                    final Set<K> all;
+                    if (keys == null) {
+                        all = ConcurrentHashMap.newKeySet();
+                    } else {
+                        all = keys;
+                    }
+                    all.add(key);
+                    return all;
+                }
+            );
+        }
+    }
+
+    private void untag(final K key, final V value) {
+        for (final Object tag : this.tags.apply(value)) {
+            this.index.computeIfPresent(
+                tag,
+                (item, keys) -> {
+                    keys.remove(key);
+                    final Set<K> left;
+                    if (keys.isEmpty()) {
+                        left = null;
+                    } else {
+                        left = keys;
+                    }
+                    return left;
+                }
+            );
+        }
+    }
+
+    private <T> T locked(final Object key, final Supplier<T> action) {
+        final int hash = key.hashCode();
+        final Lock lock = this.locks.get(
+            Math.floorMod(hash ^ hash >>> 16, this.locks.size())
+        );
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
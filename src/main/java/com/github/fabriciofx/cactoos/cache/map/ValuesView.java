@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Live values view of a Map.
+ * <p>Nothing is copied: iteration traverses the map entries lazily and
+ * removals go through the map.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @since 0.0.14
+ */
+public final class ValuesView<K, V> extends AbstractCollection<V> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> map;
+
+    /**
+     * Map entries in iteration order.
+     */
+    private final Iterable<Map.Entry<K, V>> entries;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param entries The map entries in iteration order
+     */
+    public ValuesView(
+        final Map<K, V> map,
+        final Iterable<Map.Entry<K, V>> entries
+    ) {
+        super();
+        this.map = map;
+        this.entries = entries;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new ViewIterator<>(
+            this.map,
+            this.entries.iterator(),
+            Map.Entry::getValue
+        );
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+}
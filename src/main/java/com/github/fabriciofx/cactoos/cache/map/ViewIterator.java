@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Iterator over a view of a Map.
+ * <p>Maps each traversed entry to the item exposed by the view and removes
+ * through the backing map, so it never depends on the traversal being
+ * modifiable.</p>
+ * @param <K> The key type
+ * @param <V> The value type
+ * @param <T> The item type
+ * @since 0.0.14
+ */
+public final class ViewIterator<K, V, T> implements Iterator<T> {
+
+    /**
+     * Backing map.
+     */
+    private final Map<K, V> map;
+
+    /**
+     * Traversal over the map entries.
+     */
+    private final Iterator<Map.Entry<K, V>> origin;
+
+    /**
+     * Item of an entry.
+     */
+    private final Function<Map.Entry<K, V>, T> item;
+
+    /**
+     * Last returned entry.
+     */
+    private final AtomicReference<Map.Entry<K, V>> last;
+
+    /**
+     * Ctor.
+     * @param map The backing map
+     * @param origin Traversal over the map entries
+     * @param item Item of an entry
+     */
+    public ViewIterator(
+        final Map<K, V> map,
+        final Iterator<Map.Entry<K, V>> origin,
+        final Function<Map.Entry<K, V>, T> item
+    ) {
+        this.map = map;
+        this.origin = origin;
+        this.item = item;
+        this.last = new AtomicReference<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public T next() {
+        final Map.Entry<K, V> entry = this.origin.next();
+        this.last.set(entry);
+        return this.item.apply(entry);
+    }
+
+    @Override
+    public void remove() {
+        final Map.Entry<K, V> entry = this.last.getAndSet(null);
+        if (entry == null) {
+            throw new IllegalStateException("#remove(): no current entry");
+        }
+        this.map.remove(entry.getKey());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.metadata;
+
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Metadata read back from the bytes written by {@link Serialized}.
+ * <p>The bytes are only read when the metadata is first used.</p>
+ * @since 0.0.14
+ */
+public final class Deserialized implements Metadata {
+
+    /**
+     * Metadata.
+     */
+    private final Unchecked<Metadata> origin;
+
+    /**
+     * Ctor.
+     * @param bytes The serialized metadata
+     */
+    @SuppressWarnings("unchecked")
+    public Deserialized(final Bytes bytes) {
+        this.origin = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    try (ObjectInputStream in = new ObjectInputStream(
+                        new ByteArrayInputStream(bytes.asBytes())
+                    )) {
+                        return new MetadataOf(
+                            (Map<String, Object>) in.readObject()
+                        );
+                    }
+                }
+            )
+        );
+    }
+
+    @Override
+    public Set<String> names() {
+        return this.origin.value().names();
+    }
+
+    @Override
+    public <T> List<T> value(final String name, final TypeOf<T> type) {
+        return this.origin.value().value(name, type);
+    }
+
+    @Override
+    public <T> Metadata with(final String name, final T value) {
+        return this.origin.value().with(name, value);
+    }
+
+    @Override
+    public <T> boolean hasAny(final Iterable<T> values) {
+        return this.origin.value().hasAny(values);
+    }
+}
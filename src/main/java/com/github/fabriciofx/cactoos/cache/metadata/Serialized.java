@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.metadata;
+
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Bytes;
+
+/**
+ * Metadata serialized to bytes.
+ * <p>Items are written with Java serialization, so their values must be
+ * {@link java.io.Serializable}. Collections are copied into lists first, as
+ * the ones used for tags often are not. {@link Deserialized} reads them
+ * back.</p>
+ * @since 0.0.14
+ */
+public final class Serialized implements Bytes {
+
+    /**
+     * Metadata.
+     */
+    private final Metadata metadata;
+
+    /**
+     * Ctor.
+     * @param metadata The metadata
+     */
+    public Serialized(final Metadata metadata) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public byte[] asBytes() throws Exception {
+        final Map<String, Object> items = new HashMap<>();
+        for (final String name : this.metadata.names()) {
+            final List<Object> value = this.metadata.value(
+                name,
+                new TypeOf<Object>() { }
+            );
+            if (!value.isEmpty()) {
+                items.put(name, Serialized.portable(value.get(0)));
+            }
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(items);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object portable(final Object value) {
+        final Object portable;
+        if (value instanceof Collection) {
+            portable = new ArrayList<>((Collection<?>) value);
+        } else {
+            portable = value;
+        }
+        return portable;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.metadata;
+
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import org.cactoos.set.SetOf;
+
+/**
+ * Tags of a metadata: the values of its items.
+ * <p>A collection value is a tag and so is each of its elements, matching
+ * what {@link Metadata#hasAny(Iterable)} looks for. When names are given,
+ * only the items with these names are tags (so, for instance, the
+ * expiration of the entries doesn't end up in an index).</p>
+ * @since 0.0.14
+ */
+public final class Tags implements Function<Metadata, Collection<?>> {
+
+    /**
+     * Names of the items that are tags (all if empty).
+     */
+    private final Set<String> names;
+
+    /**
+     * Ctor.
+     * @param names Names of the items that are tags (all if none)
+     */
+    public Tags(final String... names) {
+        this.names = new SetOf<>(names);
+    }
+
+    @Override
+    public Collection<?> apply(final Metadata metadata) {
+        final Set<Object> tags = new HashSet<>();
+        for (final String name : metadata.names()) {
+            if (this.names.isEmpty() || this.names.contains(name)) {
+                for (final Object value
+                    : metadata.value(name, new TypeOf<Object>() { })) {
+                    tags.add(value);
+                    if (value instanceof Collection) {
+                        tags.addAll((Collection<?>) value);
+                    }
+                }
+            }
+        }
+        return tags;
+    }
+}
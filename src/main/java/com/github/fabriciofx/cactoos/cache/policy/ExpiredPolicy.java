@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.cache.policy;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
 import com.github.fabriciofx.cactoos.cache.Entry;
 import com.github.fabriciofx.cactoos.cache.Evicted;
 import com.github.fabriciofx.cactoos.cache.Key;
@@ -35,7 +36,7 @@ public final class ExpiredPolicy<K extends Bytes, V extends Bytes>
             final List<LocalDateTime> expiration = entry.metadata()
                 .value("expiration", new TypeOf<>() { });
             if (!expiration.isEmpty() && expiration.get(0).isBefore(now)) {
-                evicted.add(store.delete(key));
+                evicted.add(store.delete(key), Cause.EXPIRED);
             }
         }
     }
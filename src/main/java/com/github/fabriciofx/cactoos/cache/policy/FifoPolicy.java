@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.cache.policy;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
 import com.github.fabriciofx.cactoos.cache.Evicted;
 import com.github.fabriciofx.cactoos.cache.Policy;
 import com.github.fabriciofx.cactoos.cache.Store;
@@ -44,7 +45,7 @@ public final class FifoPolicy<K extends Bytes, V extends Bytes>
         final Evicted<K, V> evicted = cache.evicted();
         final Store<K, V> store = cache.store();
         while (cache.size() > this.max) {
-            evicted.add(store.delete(store.keys().iterator().next()));
+            evicted.add(store.delete(store.oldest().key()), Cause.SIZE);
         }
     }
 }
@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.cache.policy;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
 import com.github.fabriciofx.cactoos.cache.Entries;
 import com.github.fabriciofx.cactoos.cache.Evicted;
 import com.github.fabriciofx.cactoos.cache.Policy;
@@ -46,7 +47,7 @@ public final class MaxCountPolicy<K extends Bytes, V extends Bytes>
         final Store<K, V> store = cache.store();
         final Entries<K, V> entries = store.entries();
         while (entries.count() > this.max) {
-            evicted.add(store.delete(store.keys().iterator().next()));
+            evicted.add(store.delete(store.oldest().key()), Cause.SIZE);
         }
     }
 }
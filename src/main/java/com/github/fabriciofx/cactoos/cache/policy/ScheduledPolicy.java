@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.policy;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Policy;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import com.github.fabriciofx.cactoos.cache.wheel.TimingWheel;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Bytes;
+
+/**
+ * ScheduledPolicy.
+ * <p>Expires the entries scheduled in a {@link TimingWheel} (by a
+ * {@link com.github.fabriciofx.cactoos.cache.store.Scheduled} store), so
+ * each run only visits the entries due instead of the whole cache. An
+ * entry is only removed if it is still the one found expired, so an entry
+ * deleted or saved again with a later expiration meanwhile is kept. An
+ * entry found due but not expired yet is scheduled again to its own
+ * expiration, so it is never left out of the wheel.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class ScheduledPolicy<K extends Bytes, V extends Bytes>
+    implements Policy<K, V> {
+
+    /**
+     * Wheel.
+     */
+    private final TimingWheel<Key<K>> wheel;
+
+    /**
+     * Ctor.
+     * @param wheel The wheel the expirations are scheduled in
+     */
+    public ScheduledPolicy(final TimingWheel<Key<K>> wheel) {
+        this.wheel = wheel;
+    }
+
+    @Override
+    public void apply(final Cache<K, V> cache) {
+        final long now = System.currentTimeMillis();
+        final List<Key<K>> due = this.wheel.advance(now);
+        if (!due.isEmpty()) {
+            cache.store().entries()
+                .invalidate(
+                    entries -> this.expired(entries, due, now)
+                )
+                .forEach(entry -> cache.evicted().add(entry, Cause.EXPIRED));
+        }
+    }
+
+    private List<Entry<K, V>> expired(
+        final Map<Key<K>, Entry<K, V>> entries,
+        final List<Key<K>> due,
+        final long now
+    ) {
+        final List<Entry<K, V>> expired = new ArrayList<>(due.size());
+        for (final Key<K> key : due) {
+            final Entry<K, V> entry = entries.get(key);
+            if (entry != null && entry.valid()) {
+                final long expiration = ScheduledPolicy.expiration(entry);
+                if (expiration > now && expiration < Long.MAX_VALUE) {
+                    this.wheel.schedule(key, expiration);
+                } else if (expiration <= now && entries.remove(key, entry)) {
+                    expired.add(entry);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private static long expiration(final Entry<?, ?> entry) {
+        final List<LocalDateTime> expiration = entry.metadata()
+            .value("expiration", new TypeOf<>() { });
+        final long millis;
+        if (expiration.isEmpty()) {
+            millis = Long.MAX_VALUE;
+        } else {
+            millis = expiration.get(0).atZone(ZoneId.systemDefault())
+                .toInstant().toEpochMilli();
+        }
+        return millis;
+    }
+}
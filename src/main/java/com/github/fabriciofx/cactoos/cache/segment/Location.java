@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.segment;
+
+/**
+ * Where a record is in a segment.
+ * <p>A record starts with a status byte followed by the lengths of its
+ * three parts (key, value and metadata) and then the parts
+ * themselves.</p>
+ * @since 0.0.14
+ */
+final class Location {
+
+    /**
+     * Size of the header (status and lengths) in bytes.
+     */
+    static final int HEADER = 1 + 3 * Integer.BYTES;
+
+    /**
+     * Status of a live record.
+     */
+    static final byte ALIVE = 1;
+
+    /**
+     * Status of a removed record.
+     */
+    static final byte DEAD = 2;
+
+    /**
+     * Segment.
+     */
+    private final Segment segment;
+
+    /**
+     * Offset of the record in the segment.
+     */
+    private final long offset;
+
+    /**
+     * Lengths of the parts.
+     */
+    private final int[] lengths;
+
+    /**
+     * Ctor.
+     * @param segment The segment
+     * @param offset Offset of the record in the segment
+     * @param lengths Lengths of the key, value and metadata
+     */
+    Location(final Segment segment, final long offset, final int... lengths) {
+        this.segment = segment;
+        this.offset = offset;
+        this.lengths = lengths.clone();
+    }
+
+    /**
+     * The segment holding the record.
+     * @return The segment
+     */
+    Segment segment() {
+        return this.segment;
+    }
+
+    /**
+     * Offset of the record in the segment.
+     * @return The offset
+     */
+    long offset() {
+        return this.offset;
+    }
+
+    /**
+     * Position of a part in the segment.
+     * @param part The part (0 for key, 1 for value and 2 for metadata)
+     * @return The position
+     */
+    long position(final int part) {
+        long position = this.offset + Location.HEADER;
+        for (int idx = 0; idx < part; ++idx) {
+            position += this.lengths[idx];
+        }
+        return position;
+    }
+
+    /**
+     * Length of a part.
+     * @param part The part (0 for key, 1 for value and 2 for metadata)
+     * @return The length
+     */
+    int length(final int part) {
+        return this.lengths[part];
+    }
+
+    /**
+     * Size of the whole record in bytes.
+     * @return The size
+     */
+    int size() {
+        return Location.HEADER + this.lengths[0] + this.lengths[1]
+            + this.lengths[2];
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.segment;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A segment file, where records are only appended.
+ * @since 0.0.14
+ */
+final class Segment implements Closeable {
+
+    /**
+     * Number of the segment.
+     */
+    private final long num;
+
+    /**
+     * Path of the file.
+     */
+    private final Path path;
+
+    /**
+     * Channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Bytes appended.
+     */
+    private final AtomicLong size;
+
+    /**
+     * Bytes of removed records.
+     */
+    private final AtomicLong dead;
+
+    /**
+     * Slots of the live records.
+     */
+    private final Set<Slot> slots;
+
+    /**
+     * Ctor.
+     * @param num Number of the segment
+     * @param path Path of the file
+     * @param channel Channel of the file
+     * @throws IOException If the file can't be read
+     * @checkstyle ConstructorsCodeFreeCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    Segment(final long num, final Path path, final FileChannel channel)
+        throws IOException {
+        this.num = num;
+        this.path = path;
+        this.channel = channel;
+        this.size = new AtomicLong(channel.size());
+        this.dead = new AtomicLong(0L);
+        this.slots = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of the segments
+     * @param num Number of the segment
+     * @throws IOException If the file can't be opened
+     */
+    Segment(final Path dir, final long num) throws IOException {
+        this(
+            num,
+            dir.resolve(String.format("%016d.seg", num)),
+            FileChannel.open(
+                dir.resolve(String.format("%016d.seg", num)),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            )
+        );
+    }
+
+    /**
+     * Number of the segment.
+     * @return The number
+     */
+    long number() {
+        return this.num;
+    }
+
+    /**
+     * Bytes appended.
+     * @return The amount of bytes
+     */
+    long size() {
+        return this.size.get();
+    }
+
+    /**
+     * Fraction of the appended bytes taken by removed records.
+     * @return The fraction, from 0 to 1
+     */
+    double waste() {
+        final long total = this.size.get();
+        final double waste;
+        if (total == 0L) {
+            waste = 0.0;
+        } else {
+            waste = (double) this.dead.get() / total;
+        }
+        return waste;
+    }
+
+    /**
+     * Slots of the live records.
+     * @return The slots
+     */
+    Set<Slot> slots() {
+        return this.slots;
+    }
+
+    /**
+     * Append a record (the caller must serialize appends).
+     * @param record The record
+     * @return Offset of the record
+     * @throws IOException If the record can't be written
+     */
+    long append(final ByteBuffer record) throws IOException {
+        final long offset = this.size.get();
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += this.channel.write(record, position);
+        }
+        this.size.set(position);
+        return offset;
+    }
+
+    /**
+     * Read some bytes.
+     * @param position Position of the bytes
+     * @param length Amount of bytes
+     * @return The bytes
+     * @throws IOException If the bytes can't be read
+     */
+    byte[] read(final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            final int read = this.channel.read(
+                buffer,
+                position + buffer.position()
+            );
+            if (read < 0) {
+                throw new IOException(
+                    String.format(
+                        "unexpected end of segment %s at %d",
+                        this.path,
+                        position + buffer.position()
+                    )
+                );
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Mark a record as removed.
+     * @param slot The slot of the record
+     * @param location The location of the record
+     * @throws IOException If the record can't be marked
+     */
+    void kill(final Slot slot, final Location location) throws IOException {
+        if (this.slots.remove(slot)) {
+            this.channel.write(
+                ByteBuffer.wrap(new byte[] {Location.DEAD}),
+                location.offset()
+            );
+            this.dead.addAndGet(location.size());
+        }
+    }
+
+    /**
+     * Find the live records, truncating a record left incomplete by a crash.
+     * @return The locations of the live records, in the order appended
+     * @throws IOException If the segment can't be read
+     */
+    List<Location> scan() throws IOException {
+        final List<Location> found = new ArrayList<>(0);
+        final long total = this.channel.size();
+        long offset = 0L;
+        while (offset + Location.HEADER <= total) {
+            final ByteBuffer header = ByteBuffer.wrap(
+                this.read(offset, Location.HEADER)
+            );
+            final byte status = header.get();
+            final Location location = new Location(
+                this,
+                offset,
+                header.getInt(),
+                header.getInt(),
+                header.getInt()
+            );
+            if (status != Location.ALIVE && status != Location.DEAD
+                || offset + location.size() > total) {
+                break;
+            }
+            if (status == Location.ALIVE) {
+                found.add(location);
+            } else {
+                this.dead.addAndGet(location.size());
+            }
+            offset += location.size();
+        }
+        this.channel.truncate(offset);
+        this.size.set(offset);
+        return found;
+    }
+
+    /**
+     * Close and delete the file.
+     * @throws IOException If the file can't be deleted
+     */
+    void delete() throws IOException {
+        this.close();
+        Files.deleteIfExists(this.path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel.isOpen()) {
+            this.channel.force(true);
+            this.channel.close();
+        }
+    }
+}
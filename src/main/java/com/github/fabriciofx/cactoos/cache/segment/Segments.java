@@ -0,0 +1,265 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.segment;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Log-structured storage of records in segment files.
+ * <p>Records are only appended to the last segment, which is closed once it
+ * reaches the maximum size and a new one is started, so every write is
+ * sequential. Removed records are only marked as such; a
+ * {@link #compact(double)} copies the live records of the segments that
+ * are mostly removed ones to the last segment and deletes them. Reads
+ * and removals wait while a segment is being compacted.</p>
+ * @since 0.0.14
+ */
+public final class Segments implements Closeable {
+
+    /**
+     * Directory of the segments.
+     */
+    private final Path dir;
+
+    /**
+     * Maximum size of a segment in bytes.
+     */
+    private final long max;
+
+    /**
+     * Segments, oldest first.
+     */
+    private final List<Segment> all;
+
+    /**
+     * Lock held by the compaction (write) and by reads and removals (read).
+     */
+    private final ReadWriteLock lock;
+
+    /**
+     * Lock held by appends.
+     */
+    private final Lock appending;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the segments
+     */
+    public Segments(final Path dir) {
+        this(dir, 1L << 26);
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of the segments
+     * @param max Maximum size of a segment in bytes
+     */
+    public Segments(final Path dir, final long max) {
+        this.dir = dir;
+        this.max = max;
+        this.all = new CopyOnWriteArrayList<>();
+        this.lock = new ReentrantReadWriteLock();
+        this.appending = new ReentrantLock();
+    }
+
+    /**
+     * Open the existing segments and run an action on every live record, in
+     * the order they were appended.
+     * @param action The action
+     * @throws IOException If the segments can't be read
+     */
+    public void open(final Consumer<Slot> action) throws IOException {
+        Files.createDirectories(this.dir);
+        final List<Path> files;
+        try (Stream<Path> paths = Files.list(this.dir)) {
+            files = paths
+                .filter(path -> path.getFileName().toString().endsWith(".seg"))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+        for (final Path file : files) {
+            final String name = file.getFileName().toString();
+            final Segment segment = new Segment(
+                this.dir,
+                Long.parseLong(name.substring(0, name.length() - 4))
+            );
+            this.all.add(segment);
+            for (final Location location : segment.scan()) {
+                final Slot slot = new Slot(this, location);
+                segment.slots().add(slot);
+                action.accept(slot);
+            }
+        }
+    }
+
+    /**
+     * Append a record.
+     * <p>The record is written and added to the slots of its segment under
+     * the same lock, so a compaction can't happen in between and miss
+     * it.</p>
+     * @param key The key bytes
+     * @param value The value bytes
+     * @param metadata The metadata bytes
+     * @return The slot of the record
+     * @throws IOException If the record can't be written
+     */
+    public Slot append(
+        final byte[] key,
+        final byte[] value,
+        final byte[] metadata
+    ) throws IOException {
+        final ByteBuffer record = ByteBuffer.allocate(
+            Location.HEADER + key.length + value.length + metadata.length
+        );
+        record.put(Location.ALIVE)
+            .putInt(key.length)
+            .putInt(value.length)
+            .putInt(metadata.length)
+            .put(key)
+            .put(value)
+            .put(metadata)
+            .flip();
+        this.lock.readLock().lock();
+        try {
+            final Location location = this.write(
+                record,
+                key.length,
+                value.length,
+                metadata.length
+            );
+            final Slot slot = new Slot(this, location);
+            location.segment().slots().add(slot);
+            return slot;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compact the segments (but the last one) whose removed records take
+     * more than a fraction of them.
+     * @param ratio The fraction, from 0 to 1
+     * @throws IOException If a segment can't be compacted
+     */
+    public void compact(final double ratio) throws IOException {
+        final List<Segment> closed = new ArrayList<>(this.all);
+        if (!closed.isEmpty()) {
+            closed.remove(closed.size() - 1);
+        }
+        for (final Segment segment : closed) {
+            if (segment.waste() > ratio) {
+                this.compact(segment);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            for (final Segment segment : this.all) {
+                segment.close();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read a part of a record.
+     * @param slot The slot of the record
+     * @param part The part (0 for key, 1 for value and 2 for metadata)
+     * @return The bytes
+     * @throws IOException If the record can't be read
+     */
+    byte[] read(final Slot slot, final int part) throws IOException {
+        this.lock.readLock().lock();
+        try {
+            final Location location = slot.location();
+            return location.segment().read(
+                location.position(part),
+                location.length(part)
+            );
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mark a record as removed.
+     * @param slot The slot of the record
+     */
+    void kill(final Slot slot) {
+        this.lock.readLock().lock();
+        try {
+            final Location location = slot.location();
+            location.segment().kill(slot, location);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void compact(final Segment segment) throws IOException {
+        this.lock.writeLock().lock();
+        try {
+            for (final Slot slot : segment.slots()) {
+                final Location old = slot.location();
+                final Location moved = this.write(
+                    ByteBuffer.wrap(segment.read(old.offset(), old.size())),
+                    old.length(0),
+                    old.length(1),
+                    old.length(2)
+                );
+                moved.segment().slots().add(slot);
+                slot.move(moved);
+            }
+            this.all.remove(segment);
+            segment.delete();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private Location write(final ByteBuffer record, final int... lengths)
+        throws IOException {
+        this.appending.lock();
+        try {
+            Segment last = null;
+            if (!this.all.isEmpty()) {
+                last = this.all.get(this.all.size() - 1);
+            }
+            if (last == null
+                || last.size() > 0L
+                && last.size() + record.remaining() > this.max) {
+                long num = 0L;
+                if (last != null) {
+                    num = last.number() + 1L;
+                }
+                Files.createDirectories(this.dir);
+                last = new Segment(this.dir, num);
+                this.all.add(last);
+            }
+            return new Location(last, last.append(record), lengths);
+        } finally {
+            this.appending.unlock();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.segment;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Bytes;
+
+/**
+ * A live record of {@link Segments}.
+ * <p>The record may be moved to another segment by a compaction, so a slot
+ * always reads it from wherever it is now.</p>
+ * @since 0.0.14
+ */
+public final class Slot {
+
+    /**
+     * Segments.
+     */
+    private final Segments segments;
+
+    /**
+     * Current location of the record.
+     */
+    private final AtomicReference<Location> location;
+
+    /**
+     * Ctor.
+     * @param segments The segments
+     * @param location The location of the record
+     */
+    Slot(final Segments segments, final Location location) {
+        this.segments = segments;
+        this.location = new AtomicReference<>(location);
+    }
+
+    /**
+     * The key bytes.
+     * @return The key bytes, read when asked for
+     */
+    public Bytes key() {
+        return () -> this.segments.read(this, 0);
+    }
+
+    /**
+     * The value bytes.
+     * @return The value bytes, read when asked for
+     */
+    public Bytes value() {
+        return () -> this.segments.read(this, 1);
+    }
+
+    /**
+     * The metadata bytes.
+     * @return The metadata bytes, read when asked for
+     */
+    public Bytes metadata() {
+        return () -> this.segments.read(this, 2);
+    }
+
+    /**
+     * Length of the value in bytes.
+     * @return The length
+     */
+    public int length() {
+        return this.location.get().length(1);
+    }
+
+    /**
+     * Mark the record as removed, so it is neither loaded again nor kept by
+     * a compaction.
+     */
+    public void kill() {
+        this.segments.kill(this);
+    }
+
+    /**
+     * Current location of the record.
+     * @return The location
+     */
+    Location location() {
+        return this.location.get();
+    }
+
+    /**
+     * Move the record.
+     * @param moved The new location of the record
+     */
+    void move(final Location moved) {
+        this.location.set(moved);
+    }
+}
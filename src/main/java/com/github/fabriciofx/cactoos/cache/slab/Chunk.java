@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.cactoos.Bytes;
+import org.cactoos.list.ListOf;
+
+/**
+ * Some bytes kept outside the Java heap, in one or more regions.
+ * <p>A chunk allocated by {@link Slabs} gives its regions back as soon as
+ * it is {@link #release() released}. Its bytes are copied to the heap
+ * first, so a released chunk can still be read (as an entry that was just
+ * removed and is being reported as evicted), and regions being read are
+ * only given back once every read is over. A chunk that becomes
+ * unreachable without being released is given back when the garbage
+ * collector finds it.</p>
+ * @since 0.0.14
+ */
+public final class Chunk implements Bytes {
+
+    /**
+     * Flag of a released chunk, above the count of reads in progress.
+     */
+    private static final int RELEASED = 1 << 30;
+
+    /**
+     * Regions.
+     */
+    private final List<ByteBuffer> parts;
+
+    /**
+     * Length in bytes.
+     */
+    private final int length;
+
+    /**
+     * Gives the regions back, only once.
+     */
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * Reads in progress and the released flag.
+     */
+    private final AtomicInteger state;
+
+    /**
+     * Bytes copied to the heap when released.
+     */
+    private final AtomicReference<byte[]> copy;
+
+    /**
+     * Ctor.
+     * @param region The region
+     * @param offset Offset in the region
+     * @param length Length in bytes
+     */
+    Chunk(final ByteBuffer region, final int offset, final int length) {
+        this(new ListOf<>(region.slice(offset, length)), chunk -> () -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param parts The regions, in order
+     * @param register Registers the chunk, returning what gives its regions
+     *  back (and also does it if the chunk becomes unreachable)
+     */
+    Chunk(
+        final List<ByteBuffer> parts,
+        final Function<Chunk, Cleaner.Cleanable> register
+    ) {
+        this.parts = parts;
+        this.length = parts.stream().mapToInt(ByteBuffer::capacity).sum();
+        this.state = new AtomicInteger(0);
+        this.copy = new AtomicReference<>();
+        this.cleanable = register.apply(this);
+    }
+
+    /**
+     * Length in bytes.
+     * @return The length
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Give the regions back, keeping a copy of the bytes on the heap.
+     * <p>It can be called more than once; only the first call has an
+     * effect.</p>
+     */
+    public void release() {
+        if ((this.state.get() & Chunk.RELEASED) == 0) {
+            this.copy.compareAndSet(null, this.read());
+            final int prev = this.state.getAndUpdate(
+                now -> now | Chunk.RELEASED
+            );
+            if (prev == 0) {
+                this.cleanable.clean();
+            }
+        }
+    }
+
+    @Override
+    public byte[] asBytes() {
+        final byte[] bytes;
+        if (this.enter()) {
+            try {
+                bytes = this.read();
+            } finally {
+                if (this.state.decrementAndGet() == Chunk.RELEASED) {
+                    this.cleanable.clean();
+                }
+            }
+        } else {
+            bytes = this.copy.get().clone();
+        }
+        return bytes;
+    }
+
+    private boolean enter() {
+        boolean entered = false;
+        int now = this.state.get();
+        while ((now & Chunk.RELEASED) == 0 && !entered) {
+            entered = this.state.compareAndSet(now, now + 1);
+            now = this.state.get();
+        }
+        return entered;
+    }
+
+    private byte[] read() {
+        final byte[] bytes = new byte[this.length];
+        int offset = 0;
+        for (final ByteBuffer part : this.parts) {
+            part.get(0, bytes, offset, part.capacity());
+            offset += part.capacity();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * File of records, mapped into memory in regions.
+ * <p>The file grows one region at a time and every region is mapped with
+ * {@link FileChannel#map}, so records are read and written through the
+ * page cache without copying them to the heap. Every record fills a slot
+ * whose size is a power of two; a removed record is marked as such and its
+ * slot is reused by the next record of the same size class, so the file
+ * only grows when the live records need it (at most twice their size, plus
+ * a partially filled region). The slots of the removed records, and the
+ * next sequence number, are found again when the file is opened. The
+ * regions are flushed to the disk on {@link #close()}.</p>
+ * @since 0.0.14
+ */
+public final class MappedFile implements Closeable {
+
+    /**
+     * Channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Size of a region in bytes.
+     */
+    private final int size;
+
+    /**
+     * Regions.
+     */
+    private final List<MappedByteBuffer> regions;
+
+    /**
+     * Free slots (region index and offset) by size class.
+     */
+    private final List<Deque<Long>> free;
+
+    /**
+     * Lock.
+     */
+    private final Lock lock;
+
+    /**
+     * Next free offset in the last region.
+     */
+    private int top;
+
+    /**
+     * Sequence number of the next record.
+     */
+    private long sequence;
+
+    /**
+     * Ctor.
+     * @param path Path of the file
+     * @throws IOException If the file can't be opened
+     */
+    public MappedFile(final Path path) throws IOException {
+        this(path, 1 << 26);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the file
+     * @param size Size of a region in bytes
+     * @throws IOException If the file can't be opened
+     */
+    public MappedFile(final Path path, final int size) throws IOException {
+        this(
+            FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            ),
+            size
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param channel The file channel
+     * @param size Size of a region in bytes
+     * @throws IOException If the file can't be mapped
+     * @checkstyle ConstructorsCodeFreeCheck (25 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    public MappedFile(final FileChannel channel, final int size)
+        throws IOException {
+        this.channel = channel;
+        this.size = size;
+        this.regions = new ArrayList<>(0);
+        this.free = IntStream.rangeClosed(0, Integer.SIZE)
+            .mapToObj(idx -> new ArrayDeque<Long>(0))
+            .collect(Collectors.toList());
+        this.lock = new ReentrantLock();
+        this.top = size;
+        this.sequence = 0L;
+        final long regions = (channel.size() + size - 1) / size;
+        for (long idx = 0; idx < regions; ++idx) {
+            this.map();
+            this.top = this.end((int) idx);
+        }
+    }
+
+    /**
+     * Write a record, into the slot of a removed one if there is any.
+     * @param key The key bytes
+     * @param value The value bytes
+     * @param metadata The metadata bytes
+     * @return The record
+     * @throws IOException If the file can't grow
+     */
+    public Record append(
+        final byte[] key,
+        final byte[] value,
+        final byte[] metadata
+    ) throws IOException {
+        final int cls = Record.slot(
+            key.length + value.length + metadata.length
+        );
+        if (cls >= Integer.SIZE - 1 || 1 << cls > this.size) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "record of %d bytes is larger than a region of %d bytes",
+                    Record.HEADER + key.length + value.length
+                        + metadata.length,
+                    this.size
+                )
+            );
+        }
+        this.lock.lock();
+        try {
+            final long address = this.reserve(cls);
+            final ByteBuffer region = this.regions.get(
+                (int) (address >>> 32)
+            );
+            final int offset = (int) address;
+            region.putInt(offset + 1, key.length);
+            region.putInt(offset + 1 + Integer.BYTES, value.length);
+            region.putInt(offset + 1 + 2 * Integer.BYTES, metadata.length);
+            region.putLong(offset + Record.SEQUENCE, this.sequence);
+            ++this.sequence;
+            region.put(offset + Record.HEADER, key);
+            region.put(offset + Record.HEADER + key.length, value);
+            region.put(
+                offset + Record.HEADER + key.length + value.length,
+                metadata
+            );
+            region.put(offset, Record.ALIVE);
+            return new Record(this, region, address);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action on every live record, in the order they were appended.
+     * <p>The records are visited by their sequence numbers, not by their
+     * place in the file, since a record may fill the slot of an older
+     * removed one.</p>
+     * @param action The action
+     */
+    public void forEach(final Consumer<Record> action) {
+        final List<MappedByteBuffer> all;
+        this.lock.lock();
+        try {
+            all = new ArrayList<>(this.regions);
+        } finally {
+            this.lock.unlock();
+        }
+        final List<Record> records = new ArrayList<>(0);
+        for (int idx = 0; idx < all.size(); ++idx) {
+            final ByteBuffer region = all.get(idx);
+            int offset = 0;
+            while (MappedFile.more(region, offset)) {
+                final Record record = new Record(
+                    this,
+                    region,
+                    (long) idx << 32 | offset
+                );
+                if (record.alive()) {
+                    records.add(record);
+                }
+                offset += 1 << record.slot();
+            }
+        }
+        records.sort(Comparator.comparingLong(Record::sequence));
+        records.forEach(action);
+    }
+
+    /**
+     * Remove a record, giving its slot back.
+     * <p>The record must no longer be read.</p>
+     * @param record The record
+     */
+    public void remove(final Record record) {
+        this.lock.lock();
+        try {
+            record.kill();
+            this.free.get(record.slot()).push(record.address());
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try {
+            this.regions.forEach(MappedByteBuffer::force);
+            this.channel.close();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void map() throws IOException {
+        this.regions.add(
+            this.channel.map(
+                FileChannel.MapMode.READ_WRITE,
+                (long) this.regions.size() * this.size,
+                this.size
+            )
+        );
+    }
+
+    private long reserve(final int cls) throws IOException {
+        final Long reused = this.free.get(cls).poll();
+        final long address;
+        if (reused == null) {
+            if (this.top + (1 << cls) > this.size) {
+                this.map();
+                this.top = 0;
+            }
+            address = (long) (this.regions.size() - 1) << 32 | this.top;
+            this.top += 1 << cls;
+        } else {
+            address = reused;
+        }
+        return address;
+    }
+
+    private int end(final int index) {
+        final ByteBuffer region = this.regions.get(index);
+        int offset = 0;
+        while (MappedFile.more(region, offset)) {
+            final Record record = new Record(
+                this,
+                region,
+                (long) index << 32 | offset
+            );
+            if (record.alive()) {
+                this.sequence = Math.max(this.sequence, record.sequence() + 1);
+            } else {
+                this.free.get(record.slot()).push(record.address());
+            }
+            offset += 1 << record.slot();
+        }
+        return offset;
+    }
+
+    private static boolean more(final ByteBuffer region, final int offset) {
+        return offset + Record.HEADER <= region.capacity()
+            && region.get(offset) != Record.END;
+    }
+}
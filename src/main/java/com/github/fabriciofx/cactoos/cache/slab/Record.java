@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
+
+import java.nio.ByteBuffer;
+import org.cactoos.list.ListOf;
+
+/**
+ * A record of a {@link MappedFile}: a key, a value and their metadata.
+ * <p>A record starts with a status byte followed by the lengths of its
+ * three parts and its sequence number, all of them read straight from the
+ * mapped region. The sequence number grows with every appended record, so
+ * it tells which of two records was appended last. It fills
+ * a slot whose size is the power of two its length rounds up to, so the
+ * slot of a removed record can be reused by any later record of the same
+ * size class.</p>
+ * @since 0.0.14
+ */
+public final class Record {
+
+    /**
+     * Size of the header (status, lengths and sequence) in bytes.
+     */
+    static final int HEADER = 1 + 3 * Integer.BYTES + Long.BYTES;
+
+    /**
+     * Offset of the sequence number in the header.
+     */
+    static final int SEQUENCE = 1 + 3 * Integer.BYTES;
+
+    /**
+     * Status of the end of a region.
+     */
+    static final byte END = 0;
+
+    /**
+     * Status of a live record.
+     */
+    static final byte ALIVE = 1;
+
+    /**
+     * Status of a removed record.
+     */
+    static final byte DEAD = 2;
+
+    /**
+     * Size of the smallest slot, in bits.
+     */
+    private static final int MIN = 4;
+
+    /**
+     * File.
+     */
+    private final MappedFile file;
+
+    /**
+     * Region.
+     */
+    private final ByteBuffer region;
+
+    /**
+     * Address of the record (region index and offset).
+     */
+    private final long address;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param region The region
+     * @param address Address of the record (region index and offset)
+     */
+    Record(final MappedFile file, final ByteBuffer region, final long address) {
+        this.file = file;
+        this.region = region;
+        this.address = address;
+    }
+
+    /**
+     * The key bytes.
+     * @return A chunk holding the key
+     */
+    public Chunk key() {
+        return new Chunk(
+            this.region,
+            this.offset() + Record.HEADER,
+            this.length(0)
+        );
+    }
+
+    /**
+     * The value bytes.
+     * <p>Releasing the chunk removes the record: it is marked as removed
+     * and its slot is given back to the file once the value is no longer
+     * being read.</p>
+     * @return A chunk holding the value
+     */
+    public Chunk value() {
+        return new Chunk(
+            new ListOf<>(
+                this.region.slice(
+                    this.offset() + Record.HEADER + this.length(0),
+                    this.length(1)
+                )
+            ),
+            chunk -> () -> this.file.remove(this)
+        );
+    }
+
+    /**
+     * The metadata bytes.
+     * @return A chunk holding the metadata
+     */
+    public Chunk metadata() {
+        return new Chunk(
+            this.region,
+            this.offset() + Record.HEADER + this.length(0) + this.length(1),
+            this.length(2)
+        );
+    }
+
+    /**
+     * Mark the record as removed, so it is not loaded again.
+     */
+    void kill() {
+        this.region.put(this.offset(), Record.DEAD);
+    }
+
+    /**
+     * Checks if the record was not removed.
+     * @return True if it is alive, false otherwise
+     */
+    boolean alive() {
+        return this.region.get(this.offset()) == Record.ALIVE;
+    }
+
+    /**
+     * Sequence number of the record.
+     * @return The number of records appended before it
+     */
+    long sequence() {
+        return this.region.getLong(this.offset() + Record.SEQUENCE);
+    }
+
+    /**
+     * Address of the record.
+     * @return The region index and the offset
+     */
+    long address() {
+        return this.address;
+    }
+
+    /**
+     * Size class of the slot of the record.
+     * @return The size of the slot, in bits
+     */
+    int slot() {
+        return Record.slot(
+            this.length(0) + this.length(1) + this.length(2)
+        );
+    }
+
+    /**
+     * Size class of the slot of a record.
+     * @param payload Length of the key, value and metadata in bytes
+     * @return The size of the slot, in bits
+     */
+    static int slot(final int payload) {
+        final int length = Math.max(
+            Record.HEADER + payload,
+            1 << Record.MIN
+        );
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    private int offset() {
+        return (int) this.address;
+    }
+
+    private int length(final int part) {
+        return this.region.getInt(this.offset() + 1 + part * Integer.BYTES);
+    }
+}
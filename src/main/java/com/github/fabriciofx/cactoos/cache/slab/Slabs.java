@@ -0,0 +1,181 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Allocator of chunks in direct (off-heap) memory.
+ * <p>Memory is reserved in slabs of a fixed size and split into chunks
+ * whose sizes are powers of two, so a released chunk can be reused by any
+ * later allocation of the same class. A chunk goes back to its free list
+ * as soon as it is {@link Chunk#release() released}, so the memory of
+ * removed values is reused without waiting for the garbage collector,
+ * which only gives back the chunks that were never released. The slabs
+ * themselves are kept for reuse: the reserved memory never goes beyond
+ * what was needed at the peak.</p>
+ * @since 0.0.14
+ */
+public final class Slabs {
+
+    /**
+     * Releases the chunks that become unreachable without being released.
+     */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * Size of the smallest chunk, in bits.
+     */
+    private static final int MIN = 4;
+
+    /**
+     * Size of a slab in bytes.
+     */
+    private final int size;
+
+    /**
+     * Slabs.
+     */
+    private final List<ByteBuffer> slabs;
+
+    /**
+     * Free offsets (slab index and offset) by chunk class.
+     */
+    private final List<Deque<Long>> free;
+
+    /**
+     * Lock.
+     */
+    private final Lock lock;
+
+    /**
+     * Next free offset in the last slab.
+     */
+    private int top;
+
+    /**
+     * Ctor.
+     */
+    public Slabs() {
+        this(1 << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param size Size of a slab in bytes (rounded up to a power of two)
+     */
+    public Slabs(final int size) {
+        this.size = Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+        this.slabs = new ArrayList<>(0);
+        this.free = IntStream.rangeClosed(0, Slabs.log(this.size))
+            .mapToObj(idx -> new ArrayDeque<Long>(0))
+            .collect(Collectors.toList());
+        this.lock = new ReentrantLock();
+        this.top = this.size;
+    }
+
+    /**
+     * Copy some bytes into a new chunk.
+     * <p>Bytes larger than a slab are split into chunks of a slab each, so
+     * they are also reused and never need a direct buffer of their
+     * own.</p>
+     * @param bytes The bytes
+     * @return The chunk holding them
+     */
+    public Chunk allocate(final byte[] bytes) {
+        final int count = Math.max(
+            1,
+            (bytes.length + this.size - 1) / this.size
+        );
+        final List<ByteBuffer> parts = new ArrayList<>(count);
+        final int[] classes = new int[count];
+        final long[] addresses = new long[count];
+        for (int idx = 0; idx < count; ++idx) {
+            final int from = idx * this.size;
+            final int length = Math.min(bytes.length - from, this.size);
+            classes[idx] = Slabs.log(Math.max(length, 1 << Slabs.MIN));
+            addresses[idx] = this.reserve(classes[idx]);
+            final ByteBuffer part = this.slab((int) (addresses[idx] >>> 32))
+                .slice((int) addresses[idx], length);
+            part.put(0, bytes, from, length);
+            parts.add(part);
+        }
+        return new Chunk(
+            parts,
+            chunk -> Slabs.CLEANER.register(
+                chunk,
+                () -> this.release(classes, addresses)
+            )
+        );
+    }
+
+    /**
+     * Amount of direct memory reserved by the slabs, in bytes.
+     * @return The amount of bytes
+     */
+    public long reserved() {
+        this.lock.lock();
+        try {
+            return (long) this.slabs.size() * this.size;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long reserve(final int cls) {
+        this.lock.lock();
+        try {
+            final Long reused = this.free.get(cls).poll();
+            final long address;
+            if (reused == null) {
+                final int length = 1 << cls;
+                if (this.top + length > this.size) {
+                    this.slabs.add(ByteBuffer.allocateDirect(this.size));
+                    this.top = 0;
+                }
+                address = (long) (this.slabs.size() - 1) << 32 | this.top;
+                this.top += length;
+            } else {
+                address = reused;
+            }
+            return address;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private ByteBuffer slab(final int index) {
+        this.lock.lock();
+        try {
+            return this.slabs.get(index);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void release(final int[] classes, final long[] addresses) {
+        this.lock.lock();
+        try {
+            for (int idx = 0; idx < classes.length; ++idx) {
+                this.free.get(classes[idx]).push(addresses[idx]);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static int log(final int length) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+    }
+}
@@ -0,0 +1,10 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Slab.
+ * @since 0.0.14
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
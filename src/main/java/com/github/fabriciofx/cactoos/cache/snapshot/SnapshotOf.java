@@ -0,0 +1,280 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.snapshot;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import com.github.fabriciofx.cactoos.cache.Snapshot;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.Decoded;
+import com.github.fabriciofx.cactoos.cache.metadata.Deserialized;
+import com.github.fabriciofx.cactoos.cache.metadata.Serialized;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Snapshot kept in a binary file.
+ * <p>Every entry is written as the lengths of its key, value and serialized
+ * metadata followed by their bytes, through a direct buffer, so large
+ * snapshots are streamed instead of built in memory. A dump is written to
+ * a temporary file and then moved over the previous snapshot, so a crash
+ * never leaves a truncated one. Entries whose {@code expiration} metadata
+ * has passed (the same rule of the
+ * {@link com.github.fabriciofx.cactoos.cache.policy.ExpiredPolicy}) are not
+ * restored.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ * @checkstyle ParameterNumberCheck (200 lines)
+ */
+@SuppressWarnings("InvalidBlockTag")
+public final class SnapshotOf<K extends Bytes, V extends Bytes>
+    implements Snapshot<K, V> {
+
+    /**
+     * Identifies a snapshot file (and its format version).
+     */
+    private static final int MAGIC = 0x43435331;
+
+    /**
+     * Path of the snapshot file.
+     */
+    private final Path path;
+
+    /**
+     * Decoder of the key bytes.
+     */
+    private final UncheckedFunc<byte[], Key<K>> keys;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final UncheckedFunc<byte[], V> values;
+
+    /**
+     * Size of the buffer in bytes.
+     */
+    private final int buffer;
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     */
+    public SnapshotOf(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values
+    ) {
+        this(path, keys, values, 1 << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     * @param buffer Size of the buffer in bytes
+     */
+    public SnapshotOf(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values,
+        final int buffer
+    ) {
+        this.path = path;
+        this.keys = new UncheckedFunc<>(new Decoded<>(keys));
+        this.values = new UncheckedFunc<>(values);
+        this.buffer = Math.max(buffer, 3 * Integer.BYTES);
+    }
+
+    @Override
+    public int dump(final Store<K, V> store) throws IOException {
+        final Path temp = this.path.resolveSibling(
+            String.format("%s.tmp", this.path.getFileName())
+        );
+        int count = 0;
+        try (FileChannel out = FileChannel.open(
+            temp,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            final ByteBuffer buf = ByteBuffer.allocateDirect(this.buffer);
+            buf.putInt(SnapshotOf.MAGIC);
+            for (final Entry<K, V> entry : store.entries()) {
+                final byte[] key = new UncheckedBytes(entry.key().value())
+                    .asBytes();
+                final byte[] value = new UncheckedBytes(entry.value())
+                    .asBytes();
+                final byte[] meta = new UncheckedBytes(
+                    new Serialized(entry.metadata())
+                ).asBytes();
+                if (buf.remaining() < 3 * Integer.BYTES) {
+                    SnapshotOf.drain(out, buf);
+                }
+                buf.putInt(key.length).putInt(value.length)
+                    .putInt(meta.length);
+                SnapshotOf.put(out, buf, key);
+                SnapshotOf.put(out, buf, value);
+                SnapshotOf.put(out, buf, meta);
+                ++count;
+            }
+            SnapshotOf.drain(out, buf);
+            out.force(true);
+        }
+        Files.move(
+            temp,
+            this.path,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+        return count;
+    }
+
+    @Override
+    public int restore(final Store<K, V> store) throws IOException {
+        int count = 0;
+        if (Files.exists(this.path)) {
+            try (FileChannel in = FileChannel.open(
+                this.path,
+                StandardOpenOption.READ
+            )) {
+                final ByteBuffer buf = ByteBuffer.allocateDirect(this.buffer);
+                buf.flip();
+                if (!SnapshotOf.fill(in, buf, Integer.BYTES)
+                    || buf.getInt() != SnapshotOf.MAGIC) {
+                    throw new IOException(
+                        String.format("%s is not a snapshot", this.path)
+                    );
+                }
+                final LocalDateTime now = LocalDateTime.now(
+                    ZoneId.systemDefault()
+                );
+                while (SnapshotOf.fill(in, buf, 3 * Integer.BYTES)) {
+                    final int klen = buf.getInt();
+                    final int vlen = buf.getInt();
+                    final int mlen = buf.getInt();
+                    final byte[] key = SnapshotOf.take(in, buf, klen);
+                    final byte[] value = SnapshotOf.take(in, buf, vlen);
+                    final byte[] serialized = SnapshotOf.take(in, buf, mlen);
+                    final Metadata meta = new Deserialized(() -> serialized);
+                    if (!SnapshotOf.expired(meta, now)) {
+                        final Key<K> restored = this.keys.apply(key);
+                        store.save(
+                            restored,
+                            new EntryOf<>(
+                                restored,
+                                this.values.apply(value),
+                                meta
+                            )
+                        );
+                        ++count;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean expired(
+        final Metadata meta,
+        final LocalDateTime now
+    ) {
+        final List<LocalDateTime> expiration = meta.value(
+            "expiration",
+            new TypeOf<>() { }
+        );
+        return !expiration.isEmpty() && expiration.get(0).isBefore(now);
+    }
+
+    private static void put(
+        final FileChannel out,
+        final ByteBuffer buf,
+        final byte[] bytes
+    ) throws IOException {
+        if (buf.remaining() < bytes.length) {
+            SnapshotOf.drain(out, buf);
+        }
+        if (bytes.length > buf.capacity()) {
+            final ByteBuffer large = ByteBuffer.wrap(bytes);
+            while (large.hasRemaining()) {
+                out.write(large);
+            }
+        } else {
+            buf.put(bytes);
+        }
+    }
+
+    private static void drain(final FileChannel out, final ByteBuffer buf)
+        throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    private static boolean fill(
+        final FileChannel in,
+        final ByteBuffer buf,
+        final int length
+    ) throws IOException {
+        if (buf.remaining() < length) {
+            buf.compact();
+            while (buf.position() < length) {
+                if (in.read(buf) < 0) {
+                    break;
+                }
+            }
+            buf.flip();
+        }
+        return buf.remaining() >= length;
+    }
+
+    private static byte[] take(
+        final FileChannel in,
+        final ByteBuffer buf,
+        final int length
+    ) throws IOException {
+        final byte[] bytes = new byte[length];
+        if (length <= buf.capacity()) {
+            if (!SnapshotOf.fill(in, buf, length)) {
+                throw new IOException("truncated snapshot");
+            }
+            buf.get(bytes);
+        } else {
+            final int buffered = buf.remaining();
+            buf.get(bytes, 0, buffered);
+            final ByteBuffer large = ByteBuffer.wrap(
+                bytes,
+                buffered,
+                length - buffered
+            );
+            while (large.hasRemaining()) {
+                if (in.read(large) < 0) {
+                    throw new IOException("truncated snapshot");
+                }
+            }
+        }
+        return bytes;
+    }
+}
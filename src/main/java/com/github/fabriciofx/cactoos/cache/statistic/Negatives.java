@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.statistic;
+
+import com.github.fabriciofx.cactoos.cache.Statistic;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Negatives.
+ * <p>Number of lookups a Bloom filter answered as definite misses.</p>
+ * @since 0.0.14
+ */
+public final class Negatives implements Statistic {
+
+    /**
+     * Count.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Ctor.
+     */
+    public Negatives() {
+        this(new AtomicInteger(0));
+    }
+
+    /**
+     * Ctor.
+     * @param count Count
+     */
+    public Negatives(final AtomicInteger count) {
+        this.count = count;
+    }
+
+    @Override
+    public String name() {
+        return "negatives";
+    }
+
+    @Override
+    public void increment(final int num) {
+        this.count.addAndGet(num);
+    }
+
+    @Override
+    public void reset() {
+        this.count.set(0);
+    }
+
+    @Override
+    public int value() {
+        return this.count.get();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.statistic;
+
+import com.github.fabriciofx.cactoos.cache.Statistic;
+import java.util.List;
+
+/**
+ * Sum of the same statistic taken from several caches.
+ * <p>It is read-only: an increment made through the sum couldn't be told
+ * apart from the ones of the cache it went to, so it is rejected. Each
+ * cache increments its own statistic.</p>
+ * @since 0.0.14
+ */
+public final class Summed implements Statistic {
+
+    /**
+     * Statistics to sum.
+     */
+    private final List<Statistic> stats;
+
+    /**
+     * Ctor.
+     * @param stats Statistics to sum, all with the same name
+     */
+    public Summed(final List<Statistic> stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public String name() {
+        return this.stats.get(0).name();
+    }
+
+    @Override
+    public void increment(final int num) {
+        throw new UnsupportedOperationException(
+            "#increment(): a sum of statistics is read-only"
+        );
+    }
+
+    @Override
+    public void reset() {
+        this.stats.forEach(Statistic::reset);
+    }
+
+    @Override
+    public int value() {
+        return this.stats.stream().mapToInt(Statistic::value).sum();
+    }
+}
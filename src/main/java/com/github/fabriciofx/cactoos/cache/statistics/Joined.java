@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.statistics;
+
+import com.github.fabriciofx.cactoos.cache.Statistic;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.statistic.Summed;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.list.ListOf;
+
+/**
+ * Statistics of several caches seen as one.
+ * <p>Every statistic is the {@link Summed} of the statistics with the same
+ * name in each cache, which can be read and reset but not
+ * incremented.</p>
+ * @since 0.0.14
+ */
+public final class Joined implements Statistics {
+
+    /**
+     * Statistics.
+     */
+    private final List<Statistics> stats;
+
+    /**
+     * Ctor.
+     * @param stats The statistics to join
+     */
+    public Joined(final Statistics... stats) {
+        this(new ListOf<>(stats));
+    }
+
+    /**
+     * Ctor.
+     * @param stats The statistics to join
+     */
+    public Joined(final List<Statistics> stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public Statistic statistic(final String name) {
+        final List<Statistic> found = this.stats.stream()
+            .map(items -> items.statistic(name))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        final Statistic statistic;
+        if (found.isEmpty()) {
+            statistic = null;
+        } else {
+            statistic = new Summed(found);
+        }
+        return statistic;
+    }
+
+    @Override
+    public void reset() {
+        this.stats.forEach(Statistics::reset);
+    }
+
+    @Override
+    public Iterator<Statistic> iterator() {
+        return this.stats.stream()
+            .flatMap(items -> StreamSupport.stream(items.spliterator(), false))
+            .map(Statistic::name)
+            .distinct()
+            .map(this::statistic)
+            .iterator();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
+import com.github.fabriciofx.cactoos.cache.key.Fingerprint;
+import com.github.fabriciofx.cactoos.cache.map.ObservedMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.cactoos.Bytes;
+
+/**
+ * Store fronted by a counting Bloom filter.
+ * <p>Lookups of keys the filter has never seen are answered as misses
+ * without touching the map (nor its locks). The filter is indexed by the
+ * already computed hash of the keys and counts how many stored keys set
+ * each of its counters, so they are decremented whenever an entry leaves
+ * the map, wherever the removal comes from (delete, replacement,
+ * invalidation, clear or eviction): the filter never answers a miss for a
+ * stored key.</p>
+ * <p>It reports the lookups it answered as {@code "negatives"} and the ones
+ * it let through for absent keys as {@code "false-positives"}, so the
+ * false-positive rate is {@code false-positives / (false-positives +
+ * negatives)}. The statistics MUST have both (as
+ * {@link com.github.fabriciofx.cactoos.cache.statistic.Negatives} and
+ * {@link com.github.fabriciofx.cactoos.cache.statistic.FalsePositives}).
+ * </p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Bloomed<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Number of counters per key.
+     */
+    private static final int HASHES = 7;
+
+    /**
+     * Counters.
+     */
+    private final AtomicIntegerArray counters;
+
+    /**
+     * Statistics.
+     */
+    private final Statistics stats;
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Invalid entry, shared by every negative lookup.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Ctor.
+     * @param statistics The statistics
+     */
+    public Bloomed(final Statistics statistics) {
+        this(statistics, 65_536);
+    }
+
+    /**
+     * Ctor.
+     * @param statistics The statistics
+     * @param expected Expected number of entries
+     */
+    public Bloomed(final Statistics statistics, final int expected) {
+        this(new StripedLinkedMap<>(), statistics, expected);
+    }
+
+    /**
+     * Ctor.
+     * <p>The filter has ten counters per expected entry, which keeps the
+     * false-positive rate around 1% while the store holds up to the expected
+     * number of entries.</p>
+     * @param entries The (empty) map to keep the entries
+     * @param statistics The statistics
+     * @param expected Expected number of entries
+     */
+    public Bloomed(
+        final Map<Key<K>, Entry<K, V>> entries,
+        final Statistics statistics,
+        final int expected
+    ) {
+        this.counters = new AtomicIntegerArray(
+            Integer.highestOneBit(Math.max(expected, 1) * 10 - 1) << 1
+        );
+        this.stats = statistics;
+        this.origin = new StoreOf<>(
+            new ObservedMap<>(entries, (key, entry) -> this.forget(key))
+        );
+        this.invalid = new InvalidEntry<>();
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        final Entry<K, V> entry;
+        if (this.seen(key)) {
+            entry = this.origin.retrieve(key);
+            if (!entry.valid()) {
+                this.stats.statistic("false-positives").increment(1);
+            }
+        } else {
+            this.stats.statistic("negatives").increment(1);
+            entry = this.invalid;
+        }
+        return entry;
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        this.remember(key);
+        return this.origin.save(key, entry);
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        final boolean exists;
+        if (this.seen(key)) {
+            exists = this.origin.contains(key);
+            if (!exists) {
+                this.stats.statistic("false-positives").increment(1);
+            }
+        } else {
+            this.stats.statistic("negatives").increment(1);
+            exists = false;
+        }
+        return exists;
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.entries();
+    }
+
+    private boolean seen(final Key<K> key) {
+        final long print = new Fingerprint().applyAsLong(key);
+        boolean seen = true;
+        for (int idx = 0; idx < Bloomed.HASHES && seen; ++idx) {
+            seen = this.counters.get(this.counter(print, idx)) > 0;
+        }
+        return seen;
+    }
+
+    private void remember(final Key<K> key) {
+        final long print = new Fingerprint().applyAsLong(key);
+        for (int idx = 0; idx < Bloomed.HASHES; ++idx) {
+            this.counters.incrementAndGet(this.counter(print, idx));
+        }
+    }
+
+    private void forget(final Key<K> key) {
+        final long print = new Fingerprint().applyAsLong(key);
+        for (int idx = 0; idx < Bloomed.HASHES; ++idx) {
+            this.counters.decrementAndGet(this.counter(print, idx));
+        }
+    }
+
+    private int counter(final long print, final int idx) {
+        final int first = (int) print;
+        final int second = (int) (print >>> 32) | 1;
+        return first + idx * second & this.counters.length() - 1;
+    }
+}
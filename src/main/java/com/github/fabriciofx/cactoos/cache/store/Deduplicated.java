@@ -0,0 +1,222 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.hash.Xxh3BasedHash;
+import com.github.fabriciofx.cactoos.cache.map.ObservedMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Bytes;
+import org.cactoos.bytes.UncheckedBytes;
+
+/**
+ * Store that keeps a single copy of equal values.
+ * <p>Saved values are hashed (with {@link Xxh3BasedHash}) and compared byte
+ * by byte with the values already stored under the same hash; an equal
+ * value is replaced by the copy already stored, so entries with equal
+ * values share one instance. Every copy counts the entries pointing at it
+ * and is dropped when the last of them leaves the store, wherever the
+ * removal comes from.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Deduplicated<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Shared copies of the values by hash.
+     */
+    private final Map<Long, List<Shared<V>>> shared;
+
+    /**
+     * Hash of the value of each stored entry.
+     */
+    private final Map<Entry<K, V>, Long> hashes;
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Ctor.
+     */
+    public Deduplicated() {
+        this(new StripedLinkedMap<>());
+    }
+
+    /**
+     * Ctor.
+     * @param entries The (empty) map to keep the entries
+     */
+    public Deduplicated(final Map<Key<K>, Entry<K, V>> entries) {
+        this.shared = new ConcurrentHashMap<>();
+        this.hashes = new ConcurrentHashMap<>();
+        this.origin = new StoreOf<>(
+            new ObservedMap<>(entries, this::release)
+        );
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final byte[] bytes = new UncheckedBytes(entry.value()).asBytes();
+        final long hash = new Xxh3BasedHash(() -> bytes).value();
+        final Entry<K, V> stored = new EntryOf<>(
+            key,
+            this.intern(hash, bytes, entry.value()),
+            entry.metadata()
+        );
+        this.hashes.put(stored, hash);
+        return this.origin.save(key, stored);
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.entries();
+    }
+
+    private V intern(final long hash, final byte[] bytes, final V value) {
+        final AtomicReference<V> canonical = new AtomicReference<>(value);
+        this.shared.compute(
+            hash,
+            (key, copies) -> {
+                final List<Shared<V>> all;
+                if (copies == null) {
+                    all = new ArrayList<>(1);
+                } else {
+                    all = copies;
+                }
+                final Shared<V> found = all.stream()
+                    .filter(copy -> copy.same(bytes))
+                    .findFirst()
+                    .orElseGet(
+                        () -> {
+                            final Shared<V> copy = new Shared<>(value);
+                            all.add(copy);
+                            return copy;
+                        }
+                    );
+                found.acquire();
+                canonical.set(found.value());
+                return all;
+            }
+        );
+        return canonical.get();
+    }
+
+    private void release(final Entry<K, V> entry) {
+        final Long hash = this.hashes.remove(entry);
+        if (hash != null) {
+            this.shared.computeIfPresent(
+                hash,
+                (key, copies) -> {
+                    final Iterator<Shared<V>> iter = copies.iterator();
+                    while (iter.hasNext()) {
+                        final Shared<V> copy = iter.next();
+                        if (copy.value() == entry.value()) {
+                            if (copy.release()) {
+                                iter.remove();
+                            }
+                            break;
+                        }
+                    }
+                    final List<Shared<V>> left;
+                    if (copies.isEmpty()) {
+                        left = null;
+                    } else {
+                        left = copies;
+                    }
+                    return left;
+                }
+            );
+        }
+    }
+
+    /**
+     * A value shared by several entries.
+     * <p>It is only changed inside the computation of its hash bucket, so it
+     * needs no synchronization of its own.</p>
+     * @param <V> The value type
+     * @since 0.0.14
+     */
+    private static final class Shared<V extends Bytes> {
+
+        /**
+         * Value.
+         */
+        private final V val;
+
+        /**
+         * Amount of entries pointing at the value.
+         */
+        private int refs;
+
+        /**
+         * Ctor.
+         * @param value The value
+         */
+        Shared(final V value) {
+            this.val = value;
+        }
+
+        V value() {
+            return this.val;
+        }
+
+        boolean same(final byte[] bytes) {
+            return Arrays.equals(
+                new UncheckedBytes(this.val).asBytes(),
+                bytes
+            );
+        }
+
+        void acquire() {
+            this.refs += 1;
+        }
+
+        boolean release() {
+            this.refs -= 1;
+            return this.refs == 0;
+        }
+    }
+}
@@ -110,6 +110,11 @@ public final class Instrumented<K extends Bytes, V extends Bytes>
         return exists;
     }
 
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
     @Override
     public Keys<K> keys() {
         return this.kys.value();
@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.journal.Journal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.Bytes;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Store that records every save and delete into a write-ahead
+ * {@link Journal}.
+ * <p>When first used, it replays the journal into the decorated store, so
+ * the store is rebuilt after a restart. Changes are recorded before they
+ * are applied and committed to the disk in batches by the journal.
+ * Recording and applying a change of a key is atomic: it locks the stripe
+ * the key hashes to, so the journal replays the changes of a key in the
+ * order the store saw them. Invalidated and cleared entries are recorded
+ * as deletes too.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Journaled<K extends Bytes, V extends Bytes>
+    implements Store<K, V>, Closeable {
+
+    /**
+     * Journal.
+     */
+    private final Journal<K, V> journal;
+
+    /**
+     * Store, with the journal already replayed into it.
+     */
+    private final Unchecked<Store<K, V>> origin;
+
+    /**
+     * Locks (stripes).
+     */
+    private final List<Lock> locks;
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param journal The journal
+     */
+    public Journaled(final Store<K, V> store, final Journal<K, V> journal) {
+        this(store, journal, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param journal The journal
+     * @param stripes Number of stripes (locks)
+     */
+    public Journaled(
+        final Store<K, V> store,
+        final Journal<K, V> journal,
+        final int stripes
+    ) {
+        this.journal = journal;
+        this.origin = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    journal.replay(store);
+                    return store;
+                }
+            )
+        );
+        this.locks = IntStream.range(0, Math.max(1, stripes))
+            .mapToObj(idx -> new ReentrantLock())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.value().retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final Store<K, V> store = this.origin.value();
+        return this.locked(
+            key,
+            () -> {
+                this.journal.saved(key, entry);
+                return store.save(key, entry);
+            }
+        );
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        final Store<K, V> store = this.origin.value();
+        return this.locked(
+            key,
+            () -> {
+                this.journal.deleted(key);
+                return store.delete(key);
+            }
+        );
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.value().contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.value().oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return new com.github.fabriciofx.cactoos.cache.keys.Journaled<>(
+            this.origin.value().keys(),
+            this.journal
+        );
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return new com.github.fabriciofx.cactoos.cache.entries.Journaled<>(
+            this.origin.value().entries(),
+            this.journal
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.journal.close();
+    }
+
+    private <T> T locked(final Key<K> key, final Supplier<T> action) {
+        final int hash = key.hashCode();
+        final Lock lock = this.locks.get(
+            Math.floorMod(hash ^ hash >>> 16, this.locks.size())
+        );
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
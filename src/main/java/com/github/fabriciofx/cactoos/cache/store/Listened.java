@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import com.github.fabriciofx.cactoos.cache.Store;
+import org.cactoos.Bytes;
+
+/**
+ * Store that reports the deleted and replaced entries to a listener.
+ * <p>Deleted entries (and the ones invalidated or cleared through
+ * {@link #entries()}) are reported as {@link Cause#EXPLICIT} and the
+ * entries overwritten by a save as {@link Cause#REPLACED}.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Listened<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Listener.
+     */
+    private final Listener<K, V> listener;
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param listener The listener
+     */
+    public Listened(final Store<K, V> store, final Listener<K, V> listener) {
+        this.origin = store;
+        this.listener = listener;
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final Entry<K, V> replaced = this.origin.save(key, entry);
+        if (replaced.valid()) {
+            this.listener.removed(replaced, Cause.REPLACED);
+        }
+        return replaced;
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        final Entry<K, V> deleted = this.origin.delete(key);
+        if (deleted.valid()) {
+            this.listener.removed(deleted, Cause.EXPLICIT);
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return new com.github.fabriciofx.cactoos.cache.entries.Listened<>(
+            this.origin.entries(),
+            this.listener
+        );
+    }
+}
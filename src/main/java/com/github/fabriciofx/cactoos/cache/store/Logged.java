@@ -182,6 +182,28 @@ public final class Logged<K extends Bytes, V extends Bytes>
         return exists;
     }
 
+    @Override
+    public Entry<K, V> oldest() {
+        final Entry<K, V> entry = this.origin.oldest();
+        this.logger.log(
+            this.level.value(),
+            new UncheckedText(
+                new FormattedText(
+                    "[%s] Retrieving the oldest cache entry with key '%s'",
+                    this.from,
+                    new Unchecked<>(
+                        new Ternary<>(
+                            entry.valid(),
+                            () -> entry.key().hash().asString(),
+                            () -> "(invalid)"
+                        )
+                    ).value()
+                )
+            ).asString()
+        );
+        return entry;
+    }
+
     @Override
     public Keys<K> keys() {
         return new com.github.fabriciofx.cactoos.cache.keys.Logged<>(
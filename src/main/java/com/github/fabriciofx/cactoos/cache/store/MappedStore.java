@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.OffHeapEntry;
+import com.github.fabriciofx.cactoos.cache.key.Decoded;
+import com.github.fabriciofx.cactoos.cache.map.ObservedMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import com.github.fabriciofx.cactoos.cache.metadata.Deserialized;
+import com.github.fabriciofx.cactoos.cache.metadata.Serialized;
+import com.github.fabriciofx.cactoos.cache.slab.MappedFile;
+import com.github.fabriciofx.cactoos.cache.slab.Record;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Store that persists its entries into a memory-mapped file.
+ * <p>Keys, values and metadata are appended to a {@link MappedFile} and the
+ * values are decoded straight from the mapped memory when read, so the
+ * store can be larger than the heap. The index (keys and metadata) is kept
+ * in memory only: it is not persisted, but rebuilt by scanning the records
+ * of the file when the store is first used, so the entries survive a
+ * restart at the cost of that scan. The records are loaded in the order
+ * they were appended, so the order of the entries is rebuilt and, if a
+ * crash left an older record of a key alive, the newest one wins and the
+ * older is removed. The metadata is copied to the heap while loading, so
+ * it can still be read after its record is removed and its slot reused.
+ * Entries removed by any means (deletion, replacement, eviction,
+ * invalidation or clear) are marked as removed in the file and their space
+ * is reused by the next saved entries, once their values are no longer
+ * being read, so the file does not grow with the rate of writes but with
+ * the size of the live entries.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class MappedStore<K extends Bytes, V extends Bytes>
+    implements Store<K, V>, Closeable {
+
+    /**
+     * File.
+     */
+    private final MappedFile file;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final Func<byte[], V> decoder;
+
+    /**
+     * Store holding the index, loaded from the file.
+     */
+    private final Unchecked<Store<K, V>> origin;
+
+    /**
+     * Ctor.
+     * @param path Path of the file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     * @throws IOException If the file can't be opened
+     */
+    public MappedStore(
+        final Path path,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values
+    ) throws IOException {
+        this(new MappedFile(path), keys, values);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     */
+    public MappedStore(
+        final MappedFile file,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values
+    ) {
+        this.file = file;
+        this.decoder = values;
+        this.origin = new Unchecked<>(
+            new Sticky<>(
+                () -> this.load(new UncheckedFunc<>(new Decoded<>(keys)))
+            )
+        );
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.value().retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final Store<K, V> store = this.origin.value();
+        final Record record;
+        try {
+            record = this.file.append(
+                new UncheckedBytes(key.value()).asBytes(),
+                new UncheckedBytes(entry.value()).asBytes(),
+                new UncheckedBytes(new Serialized(entry.metadata())).asBytes()
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return store.save(
+            key,
+            new OffHeapEntry<>(
+                key,
+                record.value(),
+                entry.metadata(),
+                this.decoder
+            )
+        );
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.value().delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.value().contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.value().oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.value().keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.value().entries();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.file.close();
+    }
+
+    private Store<K, V> load(final UncheckedFunc<byte[], Key<K>> keys) {
+        final Store<K, V> store = new StoreOf<>(
+            new ObservedMap<>(
+                new StripedLinkedMap<>(),
+                entry -> ((OffHeapEntry<K, V>) entry).release()
+            )
+        );
+        this.file.forEach(
+            record -> {
+                final Key<K> key = keys.apply(record.key().asBytes());
+                final byte[] meta = record.metadata().asBytes();
+                store.save(
+                    key,
+                    new OffHeapEntry<>(
+                        key,
+                        record.value(),
+                        new Deserialized(() -> meta),
+                        this.decoder
+                    )
+                );
+            }
+        );
+        return store;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.OffHeapEntry;
+import com.github.fabriciofx.cactoos.cache.map.ObservedMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import com.github.fabriciofx.cactoos.cache.slab.Slabs;
+import java.util.Map;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+
+/**
+ * Store that keeps the values outside the Java heap.
+ * <p>The bytes of every saved value are copied into direct memory
+ * {@link Slabs} and rebuilt by the decoder when the value is read, so a
+ * large cache adds little to the work of the garbage collector. Keys and
+ * metadata stay on the heap, as they are needed by lookups and
+ * policies.</p>
+ * <p>The chunk of a value is released as soon as its entry leaves the
+ * store (deleted, replaced, evicted, invalidated or cleared), so its
+ * memory is reused right away.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class OffHeapStore<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Slabs.
+     */
+    private final Slabs slabs;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final Func<byte[], V> decoder;
+
+    /**
+     * Ctor.
+     * @param decoder Decoder of the value bytes
+     */
+    public OffHeapStore(final Func<byte[], V> decoder) {
+        this(new StripedLinkedMap<>(), new Slabs(), decoder);
+    }
+
+    /**
+     * Ctor.
+     * @param entries The (empty) map to keep the keys and the chunks
+     * @param slabs The slabs
+     * @param decoder Decoder of the value bytes
+     */
+    public OffHeapStore(
+        final Map<Key<K>, Entry<K, V>> entries,
+        final Slabs slabs,
+        final Func<byte[], V> decoder
+    ) {
+        this.origin = new StoreOf<>(
+            new ObservedMap<>(
+                entries,
+                entry -> ((OffHeapEntry<K, V>) entry).release()
+            )
+        );
+        this.slabs = slabs;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        return this.origin.save(
+            key,
+            new OffHeapEntry<>(
+                key,
+                this.slabs.allocate(
+                    new UncheckedBytes(entry.value()).asBytes()
+                ),
+                entry.metadata(),
+                this.decoder
+            )
+        );
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.entries();
+    }
+}
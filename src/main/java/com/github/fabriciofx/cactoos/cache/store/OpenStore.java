@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.key.Fingerprint;
+import com.github.fabriciofx.cactoos.cache.map.OpenHashMap;
+import org.cactoos.Bytes;
+
+/**
+ * Store backed by an open-addressing table indexed by the 64-bit hash of
+ * the keys.
+ * <p>Entries live in flat arrays instead of map nodes, which saves several
+ * objects per entry and keeps lookups cache-friendly on large stores. Keys
+ * are still compared in full when their hashes collide.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class OpenStore<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Ctor.
+     */
+    public OpenStore() {
+        this(16);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Initial capacity
+     */
+    public OpenStore(final int capacity) {
+        this(new OpenHashMap<>(new Fingerprint(), capacity));
+    }
+
+    /**
+     * Ctor.
+     * @param map The open-addressing map
+     */
+    public OpenStore(final OpenHashMap<Key<K>, Entry<K, V>> map) {
+        this.origin = new StoreOf<>(map);
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        return this.origin.save(key, entry);
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.entries();
+    }
+}
@@ -68,6 +68,12 @@ public final class Policed<K extends Bytes, V extends Bytes>
         return this.cache.store().contains(key);
     }
 
+    @Override
+    public Entry<K, V> oldest() {
+        this.policies.apply(this.cache);
+        return this.cache.store().oldest();
+    }
+
     @Override
     public Keys<K> keys() {
         this.policies.apply(this.cache);
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import com.github.fabriciofx.cactoos.cache.wheel.TimingWheel;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.Bytes;
+
+/**
+ * Store that schedules the expiration of the saved entries.
+ * <p>Every entry saved with an {@code "expiration"} metadata has its key
+ * scheduled in a {@link TimingWheel} to that moment, so a
+ * {@link com.github.fabriciofx.cactoos.cache.policy.ScheduledPolicy}
+ * sharing the wheel only visits the entries due. Saving a key again
+ * replaces its expiration and deleting it (or saving it without an
+ * expiration) cancels it. Saving or deleting a key and scheduling it is
+ * atomic: it locks the stripe the key hashes to, so the wheel always holds
+ * the expiration of the entry saved last.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Scheduled<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Wheel.
+     */
+    private final TimingWheel<Key<K>> wheel;
+
+    /**
+     * Locks (stripes).
+     */
+    private final List<Lock> locks;
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param wheel The wheel to schedule the expirations
+     */
+    public Scheduled(final Store<K, V> store, final TimingWheel<Key<K>> wheel) {
+        this(store, wheel, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Ctor.
+     * @param store The store
+     * @param wheel The wheel to schedule the expirations
+     * @param stripes Number of stripes (locks)
+     */
+    public Scheduled(
+        final Store<K, V> store,
+        final TimingWheel<Key<K>> wheel,
+        final int stripes
+    ) {
+        this.origin = store;
+        this.wheel = wheel;
+        this.locks = IntStream.range(0, Math.max(1, stripes))
+            .mapToObj(idx -> new ReentrantLock())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final List<LocalDateTime> expiration = entry.metadata()
+            .value("expiration", new TypeOf<>() { });
+        return this.locked(
+            key,
+            () -> {
+                final Entry<K, V> replaced = this.origin.save(key, entry);
+                if (expiration.isEmpty()) {
+                    this.wheel.cancel(key);
+                } else {
+                    this.wheel.schedule(
+                        key,
+                        expiration.get(0).atZone(ZoneId.systemDefault())
+                            .toInstant().toEpochMilli()
+                    );
+                }
+                return replaced;
+            }
+        );
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.locked(
+            key,
+            () -> {
+                this.wheel.cancel(key);
+                return this.origin.delete(key);
+            }
+        );
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.entries();
+    }
+
+    private <T> T locked(final Key<K> key, final Supplier<T> action) {
+        final int hash = key.hashCode();
+        final Lock lock = this.locks.get(
+            Math.floorMod(hash ^ hash >>> 16, this.locks.size())
+        );
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Metadata;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entry.OffHeapEntry;
+import com.github.fabriciofx.cactoos.cache.key.Decoded;
+import com.github.fabriciofx.cactoos.cache.map.ObservedMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import com.github.fabriciofx.cactoos.cache.metadata.Deserialized;
+import com.github.fabriciofx.cactoos.cache.metadata.Serialized;
+import com.github.fabriciofx.cactoos.cache.segment.Segments;
+import com.github.fabriciofx.cactoos.cache.segment.Slot;
+import com.github.fabriciofx.cactoos.cache.thread.Daemons;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Store that appends its entries to log-structured segment files.
+ * <p>Keys, values and metadata are appended to {@link Segments}, so every
+ * write is sequential, and values are read back from the files when asked
+ * for. The index (keys, metadata and where each record is) is kept in
+ * memory and rebuilt by scanning the segments when the store is first
+ * used. Entries removed by any means are marked as removed in their
+ * segment, and a background (daemon) thread compacts the segments where
+ * removed records take more than half of the space. A failed compaction
+ * is logged and retried on the next run; the last failure is thrown by
+ * {@link #close()}.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ * @checkstyle ParameterNumberCheck (200 lines)
+ */
+@SuppressWarnings("InvalidBlockTag")
+public final class SegmentedStore<K extends Bytes, V extends Bytes>
+    implements Store<K, V>, Closeable {
+
+    /**
+     * Logger of the failed compactions.
+     */
+    private static final Logger LOGGER = Logger.getLogger(
+        SegmentedStore.class.getName()
+    );
+
+    /**
+     * Segments.
+     */
+    private final Segments segments;
+
+    /**
+     * Slots of the stored entries.
+     */
+    private final Map<Entry<K, V>, Slot> slots;
+
+    /**
+     * Decoder of the value bytes.
+     */
+    private final Func<byte[], V> decoder;
+
+    /**
+     * Delay between compactions.
+     */
+    private final long delay;
+
+    /**
+     * Time unit.
+     */
+    private final TimeUnit unit;
+
+    /**
+     * Executor running the compactions.
+     */
+    private final Unchecked<ScheduledExecutorService> executor;
+
+    /**
+     * Whether the compactions were scheduled.
+     */
+    private final AtomicBoolean scheduled;
+
+    /**
+     * Last failure of a compaction.
+     */
+    private final AtomicReference<IOException> failure;
+
+    /**
+     * Store holding the index, loaded from the segments.
+     */
+    private final Unchecked<Store<K, V>> origin;
+
+    /**
+     * Ctor.
+     * @param dir Directory of the segments
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     */
+    public SegmentedStore(
+        final Path dir,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values
+    ) {
+        this(new Segments(dir), keys, values, 1L, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Ctor.
+     * @param segments The segments
+     * @param keys Decoder of the key bytes
+     * @param values Decoder of the value bytes
+     * @param delay Delay between compactions
+     * @param unit Time unit
+     */
+    public SegmentedStore(
+        final Segments segments,
+        final Func<byte[], K> keys,
+        final Func<byte[], V> values,
+        final long delay,
+        final TimeUnit unit
+    ) {
+        this.segments = segments;
+        this.slots = new ConcurrentHashMap<>();
+        this.decoder = values;
+        this.delay = delay;
+        this.unit = unit;
+        this.executor = new Unchecked<>(
+            new Sticky<>(
+                () -> Executors.newSingleThreadScheduledExecutor(
+                    new Daemons("segments-compaction")
+                )
+            )
+        );
+        this.scheduled = new AtomicBoolean(false);
+        this.failure = new AtomicReference<>();
+        this.origin = new Unchecked<>(
+            new Sticky<>(
+                () -> this.load(new UncheckedFunc<>(new Decoded<>(keys)))
+            )
+        );
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.value().retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        final Store<K, V> store = this.origin.value();
+        final Slot slot;
+        try {
+            slot = this.segments.append(
+                new UncheckedBytes(key.value()).asBytes(),
+                new UncheckedBytes(entry.value()).asBytes(),
+                new UncheckedBytes(new Serialized(entry.metadata())).asBytes()
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return store.save(key, this.stored(key, slot, entry.metadata()));
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.value().delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.value().contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.origin.value().oldest();
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return this.origin.value().keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return this.origin.value().entries();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.scheduled.get()) {
+            this.executor.value().shutdownNow();
+            try {
+                this.executor.value().awaitTermination(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        this.segments.close();
+        final IOException failed = this.failure.get();
+        if (failed != null) {
+            throw new IOException("the last compaction failed", failed);
+        }
+    }
+
+    private Store<K, V> load(final UncheckedFunc<byte[], Key<K>> keys)
+        throws IOException {
+        final Store<K, V> store = new StoreOf<>(
+            new ObservedMap<>(
+                new StripedLinkedMap<>(),
+                entry -> {
+                    final Slot slot = this.slots.remove(entry);
+                    if (slot != null) {
+                        slot.kill();
+                    }
+                }
+            )
+        );
+        this.segments.open(
+            slot -> {
+                final Key<K> key = keys.apply(
+                    new UncheckedBytes(slot.key()).asBytes()
+                );
+                store.save(
+                    key,
+                    this.stored(key, slot, new Deserialized(slot.metadata()))
+                );
+            }
+        );
+        this.executor.value().scheduleWithFixedDelay(
+            this::compact,
+            this.delay,
+            this.delay,
+            this.unit
+        );
+        this.scheduled.set(true);
+        return store;
+    }
+
+    private void compact() {
+        try {
+            this.segments.compact(0.5);
+        } catch (final IOException ex) {
+            this.failed(ex);
+        } catch (final UncheckedIOException ex) {
+            this.failed(ex.getCause());
+        }
+    }
+
+    private void failed(final IOException ex) {
+        this.failure.set(ex);
+        SegmentedStore.LOGGER.log(
+            Level.WARNING,
+            "Compaction of the segments failed, retrying on the next run",
+            ex
+        );
+    }
+
+    private Entry<K, V> stored(
+        final Key<K> key,
+        final Slot slot,
+        final Metadata metadata
+    ) {
+        final Entry<K, V> stored = new OffHeapEntry<>(
+            key,
+            slot.value(),
+            slot.length(),
+            metadata,
+            this.decoder
+        );
+        this.slots.put(stored, slot);
+        return stored;
+    }
+}
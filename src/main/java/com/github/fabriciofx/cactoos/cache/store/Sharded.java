@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entries.Joined;
+import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.cactoos.Bytes;
+
+/**
+ * Store that partitions its keys across several stores by their hash.
+ * <p>Every key always goes to the same store, chosen by the integer value of
+ * its hash, so the stores share no state and no lock. The insertion order
+ * is only kept within each store: {@link #oldest()} answers the oldest
+ * entry of one of them, taking them in turns, so the evictions by
+ * insertion order are spread across the stores instead of emptying the
+ * first one.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Sharded<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Stores (shards).
+     */
+    private final List<Store<K, V>> shards;
+
+    /**
+     * Invalid entry, shared by every miss.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Store to take the next oldest entry from.
+     */
+    private final AtomicInteger turn;
+
+    /**
+     * Ctor.
+     * @param shards The stores
+     */
+    public Sharded(final List<Store<K, V>> shards) {
+        this.shards = shards;
+        this.invalid = new InvalidEntry<>();
+        this.turn = new AtomicInteger(0);
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.shard(key).retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        return this.shard(key).save(key, entry);
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.shard(key).delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.shard(key).contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        final int first = Math.floorMod(
+            this.turn.getAndIncrement(),
+            this.shards.size()
+        );
+        Entry<K, V> oldest = this.invalid;
+        for (int idx = 0; idx < this.shards.size() && !oldest.valid(); ++idx) {
+            oldest = this.shards.get(
+                (first + idx) % this.shards.size()
+            ).oldest();
+        }
+        return oldest;
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return new com.github.fabriciofx.cactoos.cache.keys.Joined<>(
+            this.shards.stream().map(Store::keys).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return new Joined<>(
+            this.shards.stream()
+                .map(Store::entries)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private Store<K, V> shard(final Key<K> key) {
+        return this.shards.get(
+            Math.floorMod(key.hash().asInt(), this.shards.size())
+        );
+    }
+}
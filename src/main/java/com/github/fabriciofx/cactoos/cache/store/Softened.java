@@ -0,0 +1,217 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Invalidate;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keyed;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entries.Pinned;
+import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
+import com.github.fabriciofx.cactoos.cache.entry.SoftEntry;
+import com.github.fabriciofx.cactoos.cache.entry.SoftValue;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.BiFunc;
+import org.cactoos.Bytes;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Store that holds the values of a cache through soft references.
+ * <p>The garbage collector may reclaim the values under memory pressure,
+ * instead of throwing an {@link OutOfMemoryError}. The reclaimed entries
+ * are removed from the cache store and added to the cache evicted entries
+ * (as {@link com.github.fabriciofx.cactoos.cache.entry.ReclaimedEntry})
+ * on the next access, so they are counted as evictions when the cache is
+ * instrumented. References that know their key (as {@link SoftValue})
+ * let only the entries of the cleared references be removed; any other
+ * reference makes every entry be checked.</p>
+ * <p>Retrieved and iterated entries keep their value strongly referenced,
+ * so it can't be reclaimed while it is being used; the iteration skips the
+ * entries whose value was already reclaimed.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Softened<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Cache.
+     */
+    private final Cache<K, V> cache;
+
+    /**
+     * References to the values, registered in the queue.
+     */
+    private final UncheckedBiFunc<Entry<K, V>, ReferenceQueue<V>,
+        Reference<V>> refs;
+
+    /**
+     * Queue of the references cleared by the garbage collector.
+     */
+    private final ReferenceQueue<V> queue;
+
+    /**
+     * Invalid entry, shared by every reclaimed value.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     */
+    public Softened(final Cache<K, V> cache) {
+        this(cache, SoftValue::new);
+    }
+
+    /**
+     * Ctor.
+     * @param cache The cache
+     * @param refs Creates a reference to the value of an entry (as
+     *  {@code WeakValue::new}), registered in the queue
+     */
+    public Softened(
+        final Cache<K, V> cache,
+        final BiFunc<Entry<K, V>, ReferenceQueue<V>, Reference<V>> refs
+    ) {
+        this.cache = cache;
+        this.refs = new UncheckedBiFunc<>(refs);
+        this.queue = new ReferenceQueue<>();
+        this.invalid = new InvalidEntry<>();
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        this.drain();
+        return this.pinned(this.cache.store().retrieve(key));
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        this.drain();
+        return this.pinned(
+            this.cache.store().save(
+                key,
+                new SoftEntry<>(
+                    entry.key(),
+                    this.refs.apply(entry, this.queue),
+                    entry.metadata(),
+                    entry.size()
+                )
+            )
+        );
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        this.drain();
+        return this.pinned(this.cache.store().delete(key));
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        this.drain();
+        return this.cache.store().contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        this.drain();
+        return this.pinned(this.cache.store().oldest());
+    }
+
+    @Override
+    public Keys<K> keys() {
+        this.drain();
+        return this.cache.store().keys();
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        this.drain();
+        return new Pinned<>(this.cache.store().entries(), this::pinned);
+    }
+
+    private void drain() {
+        final Set<Key<?>> keys = new HashSet<>();
+        boolean unkeyed = false;
+        Reference<? extends V> ref = this.queue.poll();
+        while (ref != null) {
+            if (ref instanceof Keyed) {
+                keys.add(((Keyed<?>) ref).key());
+            } else {
+                unkeyed = true;
+            }
+            ref = this.queue.poll();
+        }
+        if (unkeyed || !keys.isEmpty()) {
+            final Invalidate<K, V> invalidate;
+            if (unkeyed) {
+                invalidate = Softened::reclaimed;
+            } else {
+                invalidate = entries -> Softened.reclaimed(entries, keys);
+            }
+            this.cache.store().entries().invalidate(invalidate)
+                .forEach(
+                    entry -> this.cache.evicted().add(
+                        ((SoftEntry<K, V>) entry).reclaimed(),
+                        Cause.COLLECTED
+                    )
+                );
+        }
+    }
+
+    private static <K extends Bytes, V extends Bytes> List<Entry<K, V>>
+        reclaimed(final Map<Key<K>, Entry<K, V>> entries) {
+        final List<Entry<K, V>> reclaimed = new ArrayList<>(0);
+        final Iterator<Entry<K, V>> iter = entries.values().iterator();
+        while (iter.hasNext()) {
+            final Entry<K, V> entry = iter.next();
+            if (entry instanceof SoftEntry && !entry.valid()
+                && entries.remove(entry.key(), entry)) {
+                reclaimed.add(entry);
+            }
+        }
+        return reclaimed;
+    }
+
+    private static <K extends Bytes, V extends Bytes> List<Entry<K, V>>
+        reclaimed(
+            final Map<Key<K>, Entry<K, V>> entries,
+            final Set<Key<?>> keys
+        ) {
+        final List<Entry<K, V>> reclaimed = new ArrayList<>(keys.size());
+        for (final Key<?> key : keys) {
+            final Entry<K, V> entry = entries.get(key);
+            if (entry instanceof SoftEntry && !entry.valid()
+                && entries.remove(key, entry)) {
+                reclaimed.add(entry);
+            }
+        }
+        return reclaimed;
+    }
+
+    private Entry<K, V> pinned(final Entry<K, V> entry) {
+        final Entry<K, V> pinned;
+        if (entry instanceof SoftEntry) {
+            pinned = ((SoftEntry<K, V>) entry).pinned(this.invalid);
+        } else {
+            pinned = entry;
+        }
+        return pinned;
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entries.EntriesOf;
+import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.key.Lexicographic;
+import com.github.fabriciofx.cactoos.cache.keys.KeysOf;
+import com.github.fabriciofx.cactoos.cache.map.MeasuredMap;
+import com.github.fabriciofx.cactoos.cache.map.SortedLinkedMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Bytes;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.number.SumOf;
+
+/**
+ * Store sorted by the bytes of its keys.
+ * <p>Besides the usual operations (with the oldest entry still being the
+ * first one saved), it gives the entries whose keys are in a range, or
+ * start with a prefix of bytes, as a {@link Store}: reading, iterating
+ * and invalidating its {@link #keys()} and {@link #entries()} only visits
+ * the keys in the range, costing O(log n + k) instead of a full scan.
+ * The oldest entry of a range is the first one saved among its keys, and
+ * its sizes (in bytes) are the ones of its keys and entries; both are
+ * computed by visiting the range.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class SortedStore<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Entries.
+     */
+    private final SortedLinkedMap<Key<K>, Entry<K, V>> records;
+
+    /**
+     * Size of the keys in bytes.
+     */
+    private final AtomicLong kbytes;
+
+    /**
+     * Size of the values in bytes.
+     */
+    private final AtomicLong vbytes;
+
+    /**
+     * Entries, updating the sizes of the whole store.
+     */
+    private final Map<Key<K>, Entry<K, V>> measured;
+
+    /**
+     * Store.
+     */
+    private final Store<K, V> origin;
+
+    /**
+     * Whether this is the whole store (and not a range of it).
+     */
+    private final boolean whole;
+
+    /**
+     * Invalid entry, returned when there is no oldest entry.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Ctor.
+     */
+    public SortedStore() {
+        this(new SortedLinkedMap<>(new Lexicographic()));
+    }
+
+    /**
+     * Ctor.
+     * @param entries The (empty) map to keep the entries
+     */
+    public SortedStore(final SortedLinkedMap<Key<K>, Entry<K, V>> entries) {
+        this(entries, new AtomicLong(0L), new AtomicLong(0L), true);
+    }
+
+    /**
+     * Ctor.
+     * @param entries The map to keep the entries
+     * @param keys Size of the keys of the whole store in bytes
+     * @param values Size of the values of the whole store in bytes
+     * @param whole Whether this is the whole store
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("InvalidBlockTag")
+    private SortedStore(
+        final SortedLinkedMap<Key<K>, Entry<K, V>> entries,
+        final AtomicLong keys,
+        final AtomicLong values,
+        final boolean whole
+    ) {
+        this.records = entries;
+        this.kbytes = keys;
+        this.vbytes = values;
+        this.measured = new MeasuredMap<>(
+            entries,
+            Key::size,
+            Entry::size,
+            keys,
+            values
+        );
+        this.origin = new StoreOf<>(entries, keys, values);
+        this.whole = whole;
+        this.invalid = new InvalidEntry<>();
+    }
+
+    /**
+     * Retrieve the entries whose keys are in a range.
+     * @param from The lowest key (inclusive)
+     * @param to The highest key (exclusive)
+     * @return A live view of the store restricted to the range
+     */
+    public Store<K, V> range(final Key<K> from, final Key<K> to) {
+        return new SortedStore<>(
+            this.records.range(from, to),
+            this.kbytes,
+            this.vbytes,
+            false
+        );
+    }
+
+    /**
+     * Retrieve the entries whose keys start with the bytes of a value.
+     * @param prefix The prefix
+     * @return A live view of the store restricted to the prefix
+     */
+    public Store<K, V> prefix(final K prefix) {
+        final byte[] bytes = new UncheckedBytes(prefix).asBytes();
+        final byte[] next = SortedStore.successor(bytes);
+        final Key<K> upper;
+        if (next.length == 0) {
+            upper = null;
+        } else {
+            upper = new KeyOf<>(prefix, () -> next);
+        }
+        return new SortedStore<>(
+            this.records.range(new KeyOf<>(prefix, () -> bytes), upper),
+            this.kbytes,
+            this.vbytes,
+            false
+        );
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        return this.origin.retrieve(key);
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        return this.origin.save(key, entry);
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        return this.origin.delete(key);
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.origin.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        return this.records.oldest(this.invalid);
+    }
+
+    @Override
+    public Keys<K> keys() {
+        final Keys<K> keys;
+        if (this.whole) {
+            keys = this.origin.keys();
+        } else {
+            keys = new KeysOf<>(
+                this.measured.keySet(),
+                () -> new SumOf(
+                    new Mapped<>(Key::size, this.records.keySet())
+                ).intValue()
+            );
+        }
+        return keys;
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        final Entries<K, V> entries;
+        if (this.whole) {
+            entries = this.origin.entries();
+        } else {
+            entries = new EntriesOf<>(
+                this.measured,
+                () -> new SumOf(
+                    new Joined<Integer>(
+                        new Mapped<>(Key::size, this.records.keySet()),
+                        new Mapped<>(Entry::size, this.records.values())
+                    )
+                ).intValue()
+            );
+        }
+        return entries;
+    }
+
+    private static byte[] successor(final byte[] prefix) {
+        int last = prefix.length - 1;
+        while (last >= 0 && prefix[last] == (byte) 0xFF) {
+            last -= 1;
+        }
+        final byte[] next = Arrays.copyOf(prefix, last + 1);
+        if (last >= 0) {
+            next[last] += 1;
+        }
+        return next;
+    }
+}
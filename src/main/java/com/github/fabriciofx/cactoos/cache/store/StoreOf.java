@@ -12,13 +12,22 @@ import com.github.fabriciofx.cactoos.cache.Store;
 import com.github.fabriciofx.cactoos.cache.entries.EntriesOf;
 import com.github.fabriciofx.cactoos.cache.entry.InvalidEntry;
 import com.github.fabriciofx.cactoos.cache.keys.KeysOf;
-import com.github.fabriciofx.cactoos.cache.map.ConcurrentLinkedMap;
+import com.github.fabriciofx.cactoos.cache.map.MeasuredMap;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import org.cactoos.Bytes;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.number.SumOf;
 
 /**
  * StoreOf.
+ * <p>Keeps running totals of the size in bytes of its keys and values, so
+ * {@link Keys#size()} and {@link Entries#size()} don't serialize
+ * anything. Misses return a single shared {@link InvalidEntry}, so they
+ * allocate nothing.</p>
  * @param <K> The key value type
  * @param <V> The entry value type
  * @since 0.0.3
@@ -31,11 +40,26 @@ public final class StoreOf<K extends Bytes, V extends Bytes>
      */
     private final Map<Key<K>, Entry<K, V>> records;
 
+    /**
+     * Invalid entry, shared by every miss.
+     */
+    private final Entry<K, V> invalid;
+
+    /**
+     * Size of the keys in bytes.
+     */
+    private final AtomicLong kbytes;
+
+    /**
+     * Size of the values in bytes.
+     */
+    private final AtomicLong vbytes;
+
     /**
      * Ctor.
      */
     public StoreOf() {
-        this(new ConcurrentLinkedMap<>());
+        this(new StripedLinkedMap<>());
     }
 
     /**
@@ -43,27 +67,59 @@ public final class StoreOf<K extends Bytes, V extends Bytes>
      * @param entries The entries
      */
     public StoreOf(final Map<Key<K>, Entry<K, V>> entries) {
-        this.records = entries;
+        this(
+            entries,
+            new AtomicLong(
+                new SumOf(new Mapped<>(Key::size, entries.keySet())).longValue()
+            ),
+            new AtomicLong(
+                new SumOf(new Mapped<>(Entry::size, entries.values()))
+                    .longValue()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param entries The entries
+     * @param keys Size of the keys in bytes
+     * @param values Size of the values in bytes
+     */
+    public StoreOf(
+        final Map<Key<K>, Entry<K, V>> entries,
+        final AtomicLong keys,
+        final AtomicLong values
+    ) {
+        this.records = new MeasuredMap<>(
+            entries,
+            Key::size,
+            Entry::size,
+            keys,
+            values
+        );
+        this.invalid = new InvalidEntry<>();
+        this.kbytes = keys;
+        this.vbytes = values;
     }
 
     @Override
     public Entry<K, V> retrieve(final Key<K> key) {
-        return this.records.getOrDefault(key, new InvalidEntry<>());
+        return this.records.getOrDefault(key, this.invalid);
     }
 
     @Override
     public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
-        return Objects.requireNonNullElseGet(
+        return Objects.requireNonNullElse(
             this.records.put(key, entry),
-            InvalidEntry::new
+            this.invalid
         );
     }
 
     @Override
     public Entry<K, V> delete(final Key<K> key) {
-        return Objects.requireNonNullElseGet(
+        return Objects.requireNonNullElse(
             this.records.remove(key),
-            InvalidEntry::new
+            this.invalid
         );
     }
 
@@ -72,13 +128,34 @@ public final class StoreOf<K extends Bytes, V extends Bytes>
         return this.records.containsKey(key);
     }
 
+    @Override
+    public Entry<K, V> oldest() {
+        final Iterator<Entry<K, V>> entries = this.records.values().iterator();
+        final Entry<K, V> oldest;
+        if (entries.hasNext()) {
+            oldest = entries.next();
+        } else {
+            oldest = this.invalid;
+        }
+        return oldest;
+    }
+
     @Override
     public Keys<K> keys() {
-        return new KeysOf<>(this.records.keySet());
+        return new KeysOf<>(
+            this.records.keySet(),
+            () -> (int) Math.min(this.kbytes.get(), Integer.MAX_VALUE)
+        );
     }
 
     @Override
     public Entries<K, V> entries() {
-        return new EntriesOf<>(this.records);
+        return new EntriesOf<>(
+            this.records,
+            () -> (int) Math.min(
+                this.kbytes.get() + this.vbytes.get(),
+                Integer.MAX_VALUE
+            )
+        );
     }
 }
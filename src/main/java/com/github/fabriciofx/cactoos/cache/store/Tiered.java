@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Keys;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.entries.Joined;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import org.cactoos.Bytes;
+
+/**
+ * Store made of a hot tier over a cold tier.
+ * <p>Entries are saved into the hot tier. An entry only found in the cold
+ * tier is promoted: it is moved (with its value copied to the heap) to the
+ * hot tier, so the next lookups are served from there. An entry lives in
+ * only one of the tiers at a time.</p>
+ * @param <K> The key value type
+ * @param <V> The entry value type
+ * @since 0.0.14
+ */
+public final class Tiered<K extends Bytes, V extends Bytes>
+    implements Store<K, V> {
+
+    /**
+     * Hot tier.
+     */
+    private final Store<K, V> hot;
+
+    /**
+     * Cold tier.
+     */
+    private final Store<K, V> cold;
+
+    /**
+     * Ctor.
+     * @param hot The hot tier
+     * @param cold The cold tier
+     */
+    public Tiered(final Store<K, V> hot, final Store<K, V> cold) {
+        this.hot = hot;
+        this.cold = cold;
+    }
+
+    @Override
+    public Entry<K, V> retrieve(final Key<K> key) {
+        Entry<K, V> entry = this.hot.retrieve(key);
+        if (!entry.valid()) {
+            final Entry<K, V> demoted = this.cold.delete(key);
+            if (demoted.valid()) {
+                entry = new EntryOf<>(key, demoted.value(), demoted.metadata());
+                this.hot.save(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public Entry<K, V> save(final Key<K> key, final Entry<K, V> entry) {
+        Entry<K, V> previous = this.hot.save(key, entry);
+        if (!previous.valid()) {
+            previous = this.cold.delete(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public Entry<K, V> delete(final Key<K> key) {
+        Entry<K, V> deleted = this.hot.delete(key);
+        if (!deleted.valid()) {
+            deleted = this.cold.delete(key);
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean contains(final Key<K> key) {
+        return this.hot.contains(key) || this.cold.contains(key);
+    }
+
+    @Override
+    public Entry<K, V> oldest() {
+        Entry<K, V> oldest = this.hot.oldest();
+        if (!oldest.valid()) {
+            oldest = this.cold.oldest();
+        }
+        return oldest;
+    }
+
+    @Override
+    public Keys<K> keys() {
+        return new com.github.fabriciofx.cactoos.cache.keys.Joined<>(
+            this.hot.keys(),
+            this.cold.keys()
+        );
+    }
+
+    @Override
+    public Entries<K, V> entries() {
+        return new Joined<>(this.hot.entries(), this.cold.entries());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.thread;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of named daemon threads.
+ * <p>Background work (as compactions or group commits) runs on daemon
+ * threads, so it never keeps the JVM alive when the owner is not
+ * closed.</p>
+ * @since 0.0.14
+ */
+public final class Daemons implements ThreadFactory {
+
+    /**
+     * Name of the threads.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param name Name of the threads
+     */
+    public Daemons(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, this.name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
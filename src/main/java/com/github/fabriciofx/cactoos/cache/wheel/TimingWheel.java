@@ -0,0 +1,292 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.wheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>Items are scheduled to a deadline and handed back by
+ * {@link #advance(long)} once it is reached, so the cost of advancing is
+ * proportional to the items due (and to the elapsed ticks), not to the
+ * amount of items scheduled. The wheel has four levels of 64 slots: the
+ * first one holds the items due in the next 64 ticks, each slot of the
+ * next levels spans 64 slots of the previous one and is cascaded down
+ * when the previous level wraps. Items beyond the last level wait in an
+ * overflow list, cascaded each time the last level advances.</p>
+ * <p>An item is never handed back before its deadline, but it may be up
+ * to one tick late. An item is scheduled only once: scheduling it again
+ * replaces its deadline and {@link #cancel(Object)} drops it, leaving the
+ * stale timers in their slots to be skipped when they are reached (or
+ * cascaded). Items MUST implement {@code equals()} and
+ * {@code hashCode()}. Whoever receives the items still has to check they
+ * are due, since what they stand for may have changed meanwhile.</p>
+ * @param <T> The item type
+ * @since 0.0.14
+ */
+public final class TimingWheel<T> {
+
+    /**
+     * Bits of the slot index in a level.
+     */
+    private static final int BITS = 6;
+
+    /**
+     * Slots per level.
+     */
+    private static final int SLOTS = 1 << TimingWheel.BITS;
+
+    /**
+     * Number of levels.
+     */
+    private static final int LEVELS = 4;
+
+    /**
+     * Duration of a tick, in milliseconds.
+     */
+    private final long tick;
+
+    /**
+     * Lock.
+     */
+    private final Lock lock;
+
+    /**
+     * Slots of each level.
+     */
+    private final List<List<List<Timer<T>>>> levels;
+
+    /**
+     * Items past the last level.
+     */
+    private final List<Timer<T>> overflow;
+
+    /**
+     * Items already due when scheduled.
+     */
+    private final List<Timer<T>> ready;
+
+    /**
+     * Latest timer of each item.
+     */
+    private final Map<T, Timer<T>> latest;
+
+    /**
+     * Current tick.
+     */
+    private long current;
+
+    /**
+     * Ctor.
+     */
+    public TimingWheel() {
+        this(100L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ctor.
+     * @param tick Duration of a tick
+     * @param unit Time unit of the tick
+     */
+    public TimingWheel(final long tick, final TimeUnit unit) {
+        this(tick, unit, System.currentTimeMillis());
+    }
+
+    /**
+     * Ctor.
+     * @param tick Duration of a tick
+     * @param unit Time unit of the tick
+     * @param start Current time, in milliseconds since the epoch
+     */
+    public TimingWheel(final long tick, final TimeUnit unit, final long start) {
+        this.tick = Math.max(1L, unit.toMillis(tick));
+        this.lock = new ReentrantLock();
+        this.levels = IntStream.range(0, TimingWheel.LEVELS)
+            .mapToObj(
+                level -> IntStream.range(0, TimingWheel.SLOTS)
+                    .mapToObj(slot -> new ArrayList<Timer<T>>(0))
+                    .map(slot -> (List<Timer<T>>) slot)
+                    .collect(Collectors.toList())
+            )
+            .collect(Collectors.toList());
+        this.overflow = new ArrayList<>(0);
+        this.ready = new ArrayList<>(0);
+        this.latest = new HashMap<>();
+        this.current = start / this.tick;
+    }
+
+    /**
+     * Schedule an item, replacing its previous deadline.
+     * @param item The item
+     * @param deadline When it is due, in milliseconds since the epoch
+     */
+    public void schedule(final T item, final long deadline) {
+        final Timer<T> timer = new Timer<>(
+            item,
+            Math.floorDiv(deadline + this.tick - 1, this.tick)
+        );
+        this.lock.lock();
+        try {
+            this.latest.put(item, timer);
+            if (timer.tick() <= this.current) {
+                this.ready.add(timer);
+            } else {
+                this.place(timer);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Cancel an item, so it is not handed back.
+     * @param item The item
+     */
+    public void cancel(final T item) {
+        this.lock.lock();
+        try {
+            this.latest.remove(item);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Advance the wheel up to a time.
+     * @param now Current time, in milliseconds since the epoch
+     * @return The items due
+     */
+    public List<T> advance(final long now) {
+        final long target = now / this.tick;
+        final List<T> due = new ArrayList<>(0);
+        this.lock.lock();
+        try {
+            this.ready.forEach(timer -> this.fire(timer, due));
+            this.ready.clear();
+            while (this.current < target) {
+                this.current += 1;
+                this.cascade();
+                final List<Timer<T>> slot = this.levels.get(0).get(
+                    (int) (this.current & TimingWheel.SLOTS - 1)
+                );
+                slot.forEach(timer -> this.fire(timer, due));
+                slot.clear();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return due;
+    }
+
+    /**
+     * Amount of items scheduled.
+     * @return The amount of items
+     */
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.latest.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void cascade() {
+        int level = 1;
+        while (level < TimingWheel.LEVELS
+            && this.index(level - 1) == 0) {
+            final List<Timer<T>> slot = this.levels.get(level).get(
+                this.index(level)
+            );
+            final List<Timer<T>> timers = new ArrayList<>(slot);
+            slot.clear();
+            timers.forEach(this::relocate);
+            level += 1;
+        }
+        if (level == TimingWheel.LEVELS && this.index(level - 1) == 0) {
+            final List<Timer<T>> timers = new ArrayList<>(this.overflow);
+            this.overflow.clear();
+            timers.forEach(this::relocate);
+        }
+    }
+
+    private void fire(final Timer<T> timer, final List<T> due) {
+        if (this.latest.remove(timer.item(), timer)) {
+            due.add(timer.item());
+        }
+    }
+
+    private void relocate(final Timer<T> timer) {
+        if (this.latest.get(timer.item()) == timer) {
+            this.place(timer);
+        }
+    }
+
+    private void place(final Timer<T> timer) {
+        final long delta = timer.tick() - this.current;
+        int level = 0;
+        while (level < TimingWheel.LEVELS
+            && delta >= 1L << TimingWheel.BITS * (level + 1)) {
+            level += 1;
+        }
+        if (level == TimingWheel.LEVELS) {
+            this.overflow.add(timer);
+        } else {
+            this.levels.get(level).get(
+                (int) (timer.tick() >>> TimingWheel.BITS * level
+                    & TimingWheel.SLOTS - 1)
+            ).add(timer);
+        }
+    }
+
+    private int index(final int level) {
+        return (int) (this.current >>> TimingWheel.BITS * level
+            & TimingWheel.SLOTS - 1);
+    }
+
+    /**
+     * Item scheduled to a tick.
+     * @param <T> The item type
+     * @since 0.0.14
+     */
+    private static final class Timer<T> {
+
+        /**
+         * Item.
+         */
+        private final T itm;
+
+        /**
+         * Tick it is due.
+         */
+        private final long due;
+
+        /**
+         * Ctor.
+         * @param item The item
+         * @param tick Tick it is due
+         */
+        Timer(final T item, final long tick) {
+            this.itm = item;
+            this.due = tick;
+        }
+
+        T item() {
+            return this.itm;
+        }
+
+        long tick() {
+            return this.due;
+        }
+    }
+}
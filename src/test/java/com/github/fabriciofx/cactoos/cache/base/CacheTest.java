@@ -97,6 +97,38 @@ final class CacheTest {
         ).affirm();
     }
 
+    @Test
+    void keepSizeAfterDeleteAndReplace() {
+        final Cache<Word, Synonyms> cache = new CacheOf<>();
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m")
+            )
+        );
+        cache.store().delete(new KeyOf<>(new Word("a")));
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m", "n")
+            )
+        );
+        new Assertion<>(
+            "must keep the cache size after deleting and replacing",
+            cache.size(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
     @Test
     void haveSizeZeroWhenEmpty() {
         new Assertion<>(
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.evicted.Bounded;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.policies.ImmediatePolicies;
+import com.github.fabriciofx.cactoos.cache.policy.MaxCountPolicy;
+import com.github.fabriciofx.cactoos.cache.statistics.StatisticsOf;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Listened} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class ListenedTest {
+
+    @Test
+    void reportsEvictionsBySize() {
+        final List<Cause> causes = new CopyOnWriteArrayList<>();
+        final Cache<Word, Synonyms> cache = ListenedTest.cache(causes);
+        ListenedTest.save(cache, "a");
+        ListenedTest.save(cache, "b");
+        new Assertion<>(
+            "must report the entry evicted by size only once",
+            causes,
+            new IsEqual<>(List.of(Cause.SIZE))
+        ).affirm();
+    }
+
+    @Test
+    void reportsExplicitRemovals() {
+        final List<Cause> causes = new CopyOnWriteArrayList<>();
+        final Cache<Word, Synonyms> cache = ListenedTest.cache(causes);
+        ListenedTest.save(cache, "a");
+        cache.store().delete(new KeyOf<>(new Word("a")));
+        new Assertion<>(
+            "must report the deleted entry",
+            causes,
+            new IsEqual<>(List.of(Cause.EXPLICIT))
+        ).affirm();
+    }
+
+    @Test
+    void reportsReplacedEntries() {
+        final List<Cause> causes = new CopyOnWriteArrayList<>();
+        final Cache<Word, Synonyms> cache = ListenedTest.cache(causes);
+        ListenedTest.save(cache, "a");
+        ListenedTest.save(cache, "a");
+        new Assertion<>(
+            "must report the replaced entry",
+            causes,
+            new IsEqual<>(List.of(Cause.REPLACED))
+        ).affirm();
+    }
+
+    @Test
+    void reportsClearedEntries() {
+        final List<Cause> causes = new CopyOnWriteArrayList<>();
+        final Cache<Word, Synonyms> cache = ListenedTest.cache(causes);
+        ListenedTest.save(cache, "a");
+        cache.clear();
+        new Assertion<>(
+            "must report the cleared entry as explicitly removed",
+            causes,
+            new IsEqual<>(List.of(Cause.EXPLICIT))
+        ).affirm();
+    }
+
+    private static Cache<Word, Synonyms> cache(final List<Cause> causes) {
+        final Listener<Word, Synonyms> listener =
+            (entry, cause) -> causes.add(cause);
+        return new Listened<>(
+            new Policed<>(
+                new CacheOf<>(
+                    new StoreOf<>(),
+                    new StatisticsOf(),
+                    new com.github.fabriciofx.cactoos.cache.evicted.Listened<>(
+                        new Bounded<>(1),
+                        listener
+                    )
+                ),
+                new ImmediatePolicies<>(new MaxCountPolicy<>(1))
+            ),
+            listener
+        );
+    }
+
+    private static void save(
+        final Cache<Word, Synonyms> cache,
+        final String word
+    ) {
+        cache.store().save(
+            new KeyOf<>(new Word(word)),
+            new EntryOf<>(
+                new KeyOf<>(new Word(word)),
+                new Synonyms("x", "y")
+            )
+        );
+    }
+}
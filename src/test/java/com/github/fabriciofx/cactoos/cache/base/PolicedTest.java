@@ -5,6 +5,7 @@
 package com.github.fabriciofx.cactoos.cache.base;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Key;
 import com.github.fabriciofx.cactoos.cache.Synonyms;
 import com.github.fabriciofx.cactoos.cache.Word;
 import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
@@ -12,9 +13,17 @@ import com.github.fabriciofx.cactoos.cache.key.KeyOf;
 import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
 import com.github.fabriciofx.cactoos.cache.policies.ImmediatePolicies;
 import com.github.fabriciofx.cactoos.cache.policy.ExpiredPolicy;
+import com.github.fabriciofx.cactoos.cache.policy.FifoPolicy;
+import com.github.fabriciofx.cactoos.cache.policy.MaxCountPolicy;
+import com.github.fabriciofx.cactoos.cache.policy.ScheduledPolicy;
+import com.github.fabriciofx.cactoos.cache.store.Scheduled;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import com.github.fabriciofx.cactoos.cache.wheel.TimingWheel;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import org.cactoos.scalar.Unchecked;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -62,4 +71,132 @@ final class PolicedTest {
             new HasValue<>(new KeyOf<>(new Word("a")))
         ).affirm();
     }
+
+    @Test
+    void scheduledPolicyEvictsExpired() {
+        final TimingWheel<Key<Word>> wheel = new TimingWheel<>();
+        final Cache<Word, Synonyms> cache = new Policed<>(
+            new CacheOf<>(new Scheduled<>(new StoreOf<>(), wheel)),
+            new ImmediatePolicies<>(
+                new ScheduledPolicy<>(wheel)
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with(
+                    "expiration",
+                    LocalDateTime.now(ZoneId.systemDefault()).minusSeconds(1L)
+                )
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m"),
+                new MetadataOf().with(
+                    "expiration",
+                    LocalDateTime.now(ZoneId.systemDefault()).plusSeconds(1L)
+                )
+            )
+        );
+        new Assertion<>(
+            "must evict only the expired entry",
+            new Unchecked<>(() -> cache.evicted().count()),
+            new HasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void scheduledPolicyReschedulesEntriesNotDueYet() {
+        final TimingWheel<Key<Word>> wheel = new TimingWheel<>();
+        final Cache<Word, Synonyms> cache = new CacheOf<>();
+        final long now = System.currentTimeMillis();
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with(
+                    "expiration",
+                    LocalDateTime.now(ZoneId.systemDefault()).plusMinutes(1L)
+                )
+            )
+        );
+        wheel.schedule(new KeyOf<>(new Word("a")), now - 1000L);
+        new ScheduledPolicy<Word, Synonyms>(wheel).apply(cache);
+        new Assertion<>(
+            "must schedule again an entry found due before its expiration",
+            wheel.advance(now + 120_000L),
+            new IsEqual<>(List.of(new KeyOf<>(new Word("a"))))
+        ).affirm();
+    }
+
+    @Test
+    void maxCountPolicyEvictsOldest() {
+        final Cache<Word, Synonyms> cache = new Policed<>(
+            new CacheOf<>(),
+            new ImmediatePolicies<>(
+                new MaxCountPolicy<>(1)
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m")
+            )
+        );
+        new Assertion<>(
+            "must evict the oldest entry when exceeding the max count",
+            new Unchecked<>(() -> cache.evicted().entry(0).key()),
+            new HasValue<>(new KeyOf<>(new Word("a")))
+        ).affirm();
+    }
+
+    @Test
+    void fifoPolicyEvictsOldest() {
+        final Cache<Word, Synonyms> cache = new Policed<>(
+            new CacheOf<>(),
+            new ImmediatePolicies<>(
+                new FifoPolicy<>(10)
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("c")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("c")),
+                new Synonyms("p", "q", "r")
+            )
+        );
+        new Assertion<>(
+            "must evict the oldest entry when exceeding the max size",
+            new Unchecked<>(() -> cache.evicted().entry(0).key()),
+            new HasValue<>(new KeyOf<>(new Word("a")))
+        ).affirm();
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.policies.ImmediatePolicies;
+import com.github.fabriciofx.cactoos.cache.policy.MaxCountPolicy;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * {@link Sharded} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (200 lines)
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class ShardedTest {
+
+    @Test
+    void saveAndRetrieve() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(4, CacheOf::new);
+        ShardedTest.fill(cache, "a", "b", "c", "d", "e");
+        new Assertion<>(
+            "must retrieve an entry from its shard",
+            cache.store().retrieve(new KeyOf<>(new Word("c"))).value(),
+            new IsEqual<>(new Synonyms("c"))
+        ).affirm();
+    }
+
+    @Test
+    void sumsSizes() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(4, CacheOf::new);
+        ShardedTest.fill(cache, "a", "b");
+        new Assertion<>(
+            "must sum the sizes of the shards",
+            cache.size(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void sumsStatistics() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(
+            4,
+            () -> new Instrumented<>(new CacheOf<>())
+        );
+        ShardedTest.fill(cache, "a", "b", "c", "d", "e");
+        cache.store().retrieve(new KeyOf<>(new Word("a")));
+        cache.store().retrieve(new KeyOf<>(new Word("d")));
+        cache.store().retrieve(new KeyOf<>(new Word("z")));
+        new Assertion<>(
+            "must sum the statistics of the shards",
+            cache.statistics().statistic("lookups").value(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void runsPoliciesPerShard() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(
+            2,
+            () -> new Policed<>(
+                new CacheOf<>(),
+                new ImmediatePolicies<>(new MaxCountPolicy<>(1))
+            )
+        );
+        ShardedTest.fill(cache, "a", "b", "c", "d", "e", "f", "g", "h");
+        cache.store().retrieve(new KeyOf<>(new Word("a")));
+        new Assertion<>(
+            "must keep at most one entry per shard",
+            cache.store().entries().count(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsIncrementsOfSums() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(
+            2,
+            () -> new Instrumented<>(new CacheOf<>())
+        );
+        new Assertion<>(
+            "must reject an increment of a summed statistic",
+            new ScalarOf<>(
+                () -> {
+                    cache.statistics().statistic("lookups").increment(1);
+                    return true;
+                }
+            ),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void takesOldestInTurns() {
+        final Cache<Word, Synonyms> cache = new Sharded<>(2, CacheOf::new);
+        ShardedTest.fill(cache, "a", "b", "c", "d", "e", "f", "g", "h");
+        new Assertion<>(
+            "must take the oldest entry of each shard in turns",
+            cache.store().oldest().key(),
+            new IsNot<>(new IsEqual<>(cache.store().oldest().key()))
+        ).affirm();
+    }
+
+    private static void fill(
+        final Cache<Word, Synonyms> cache,
+        final String... words
+    ) {
+        for (final String word : words) {
+            cache.store().save(
+                new KeyOf<>(new Word(word)),
+                new EntryOf<>(
+                    new KeyOf<>(new Word(word)),
+                    new Synonyms(word)
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Entries;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.entry.WeakValue;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Softened} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SoftenedTest {
+
+    @Test
+    void retrievesReachableValues() {
+        final Synonyms synonyms = new Synonyms("x", "y", "z");
+        final Cache<Word, Synonyms> cache = new Softened<>(
+            new CacheOf<>()
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(new KeyOf<>(new Word("a")), synonyms)
+        );
+        new Assertion<>(
+            "must retrieve a reachable value",
+            cache.store().retrieve(new KeyOf<>(new Word("a"))).value(),
+            new IsEqual<>(synonyms)
+        ).affirm();
+    }
+
+    @Test
+    void countsReclaimedValuesAsEvictions() throws Exception {
+        final Cache<Word, Synonyms> cache = new Softened<>(
+            new Instrumented<>(new CacheOf<>()),
+            WeakValue::new
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        for (int attempt = 0; attempt < 100; ++attempt) {
+            System.gc();
+            if (!cache.store().contains(new KeyOf<>(new Word("a")))) {
+                break;
+            }
+            Thread.sleep(10L);
+        }
+        new Assertion<>(
+            "must count the reclaimed value as an eviction",
+            cache.statistics().statistic("evictions").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsReachableValuesWhenOthersAreReclaimed() throws Exception {
+        final Synonyms kept = new Synonyms("x", "y", "z");
+        final Cache<Word, Synonyms> cache = new Softened<>(
+            new Instrumented<>(new CacheOf<>()),
+            WeakValue::new
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(new KeyOf<>(new Word("a")), kept)
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("u", "v", "w")
+            )
+        );
+        for (int attempt = 0; attempt < 100; ++attempt) {
+            System.gc();
+            if (!cache.store().contains(new KeyOf<>(new Word("b")))) {
+                break;
+            }
+            Thread.sleep(10L);
+        }
+        new Assertion<>(
+            "must keep the value that is still reachable",
+            cache.store().retrieve(new KeyOf<>(new Word("a"))).value(),
+            new IsEqual<>(kept)
+        ).affirm();
+        new Assertion<>(
+            "must count only the reclaimed value as an eviction",
+            cache.statistics().statistic("evictions").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void skipsReclaimedValuesWhileIterating() throws Exception {
+        final Cache<Word, Synonyms> cache = new Softened<>(
+            new CacheOf<>(),
+            WeakValue::new
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        final Entries<Word, Synonyms> entries = cache.store().entries();
+        int values = 1;
+        for (int attempt = 0; attempt < 100 && values > 0; ++attempt) {
+            System.gc();
+            Thread.sleep(10L);
+            values = new ListOf<>(new Mapped<>(Entry::value, entries)).size();
+        }
+        new Assertion<>(
+            "must skip the entries whose value was reclaimed",
+            values,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.base;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.evicted.Demoted;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.policies.ImmediatePolicies;
+import com.github.fabriciofx.cactoos.cache.policy.MaxCountPolicy;
+import com.github.fabriciofx.cactoos.cache.statistic.Evictions;
+import com.github.fabriciofx.cactoos.cache.statistics.StatisticsOf;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Tiered} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class TieredTest {
+
+    @Test
+    void demotesEvictedEntries() {
+        final Store<Word, Synonyms> cold = new StoreOf<>();
+        final Cache<Word, Synonyms> cache = TieredTest.cache(cold);
+        TieredTest.fill(cache);
+        new Assertion<>(
+            "must demote the evicted entries to the cold store",
+            cold.contains(new KeyOf<>(new Word("a"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void promotesOnColdHit() {
+        final Store<Word, Synonyms> cold = new StoreOf<>();
+        final Cache<Word, Synonyms> cache = TieredTest.cache(cold);
+        TieredTest.fill(cache);
+        new Assertion<>(
+            "must retrieve an entry from the cold store",
+            cache.store().retrieve(new KeyOf<>(new Word("a"))).value(),
+            new IsEqual<>(new Synonyms("x", "y", "z"))
+        ).affirm();
+        new Assertion<>(
+            "must move the promoted entry out of the cold store",
+            cold.contains(new KeyOf<>(new Word("a"))),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void keepsEveryEntry() {
+        final Cache<Word, Synonyms> cache = TieredTest.cache(new StoreOf<>());
+        TieredTest.fill(cache);
+        new Assertion<>(
+            "must keep every entry across the tiers",
+            cache.store().entries().count(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void dropsExpiredEntries() {
+        final Store<Word, Synonyms> cold = new StoreOf<>();
+        final Demoted<Word, Synonyms> demoted = new Demoted<>(cold);
+        demoted.add(
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            ),
+            Cause.EXPIRED
+        );
+        new Assertion<>(
+            "must not demote an expired entry to the cold store",
+            cold.contains(new KeyOf<>(new Word("a"))),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "must keep the expired entry as evicted",
+            demoted.entry(0).key(),
+            new IsEqual<>(new KeyOf<>(new Word("a")))
+        ).affirm();
+    }
+
+    private static Cache<Word, Synonyms> cache(
+        final Store<Word, Synonyms> cold
+    ) {
+        return new Tiered<>(
+            new Policed<>(
+                new CacheOf<>(
+                    new StoreOf<>(),
+                    new StatisticsOf(new Evictions()),
+                    new Demoted<>(cold)
+                ),
+                new ImmediatePolicies<>(new MaxCountPolicy<>(1))
+            ),
+            cold
+        );
+    }
+
+    private static void fill(final Cache<Word, Synonyms> cache) {
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("c")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("c")),
+                new Synonyms("p", "q")
+            )
+        );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.evicted;
+
+import com.github.fabriciofx.cactoos.cache.Evicted;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Bounded} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class BoundedTest {
+
+    @Test
+    void keepsOnlyTheLastEntries() {
+        final Evicted<Word, Synonyms> evicted = new Bounded<>(2);
+        BoundedTest.add(evicted, "a", "b", "c");
+        new Assertion<>(
+            "must keep only the last evicted entries",
+            evicted.count(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void indexesFromTheOldestKeptEntry() {
+        final Evicted<Word, Synonyms> evicted = new Bounded<>(2);
+        BoundedTest.add(evicted, "a", "b", "c");
+        new Assertion<>(
+            "must index from the oldest entry still kept",
+            evicted.entry(0).key(),
+            new IsEqual<>(new KeyOf<>(new Word("b")))
+        ).affirm();
+    }
+
+    @Test
+    void keepsEntriesAddedAfterClear() {
+        final Evicted<Word, Synonyms> evicted = new Bounded<>(2);
+        BoundedTest.add(evicted, "a", "b", "c");
+        evicted.clear();
+        BoundedTest.add(evicted, "d");
+        new Assertion<>(
+            "must count only the entries added after clear",
+            evicted.count(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "must index the entries added after clear",
+            evicted.entry(0).key(),
+            new IsEqual<>(new KeyOf<>(new Word("d")))
+        ).affirm();
+    }
+
+    private static void add(
+        final Evicted<Word, Synonyms> evicted,
+        final String... words
+    ) {
+        for (final String word : words) {
+            evicted.add(
+                new EntryOf<>(
+                    new KeyOf<>(new Word(word)),
+                    new Synonyms("x", "y")
+                )
+            );
+        }
+    }
+}
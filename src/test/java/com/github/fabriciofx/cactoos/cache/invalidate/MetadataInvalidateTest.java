@@ -5,14 +5,26 @@
 package com.github.fabriciofx.cactoos.cache.invalidate;
 
 import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Store;
 import com.github.fabriciofx.cactoos.cache.Synonyms;
 import com.github.fabriciofx.cactoos.cache.Word;
 import com.github.fabriciofx.cactoos.cache.base.CacheOf;
 import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
 import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import com.github.fabriciofx.cactoos.cache.map.TaggedMap;
 import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
+import com.github.fabriciofx.cactoos.cache.metadata.Tags;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.cactoos.list.ListOf;
 import org.cactoos.set.SetOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -52,4 +64,81 @@ final class MetadataInvalidateTest {
             new HasValue<>(new Word("a"))
         ).affirm();
     }
+
+    @Test
+    void invalidateThroughTagIndex() {
+        final Cache<Word, Synonyms> cache = new CacheOf<>(
+            new StoreOf<>(
+                new TaggedMap<>(
+                    new StripedLinkedMap<>(),
+                    entry -> new Tags("tables").apply(entry.metadata())
+                )
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with("tables", new SetOf<>("i", "j", "k"))
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with("tables", new SetOf<>("k"))
+            )
+        );
+        new Assertion<>(
+            "must not invalidate an entry whose tag was replaced",
+            cache.store().entries()
+                .invalidate(new MetadataInvalidate<>(new ListOf<>("j")))
+                .size(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void invalidatesThroughTheIndexOfAStore() {
+        final TaggedMap<Key<Word>, Entry<Word, Synonyms>> tagged =
+            new TaggedMap<>(
+                new ConcurrentHashMap<Key<Word>, Entry<Word, Synonyms>>() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public Set<Map.Entry<Key<Word>, com.github.fabriciofx
+                        .cactoos.cache.Entry<Word, Synonyms>>> entrySet() {
+                        throw new IllegalStateException("scanned the map");
+                    }
+                },
+                entry -> new Tags("tables").apply(entry.metadata())
+            );
+        final Store<Word, Synonyms> store = new StoreOf<>(
+            tagged, new AtomicLong(0L), new AtomicLong(0L)
+        );
+        store.save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with("tables", new SetOf<>("i", "j"))
+            )
+        );
+        new Assertion<>(
+            "must invalidate through the index, without scanning the map",
+            store.entries()
+                .invalidate(
+                    new MetadataInvalidate<>(new ListOf<>("j"), tagged)
+                )
+                .size(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "must remove the invalidated entry from the index",
+            tagged.tagged("j").isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
 }
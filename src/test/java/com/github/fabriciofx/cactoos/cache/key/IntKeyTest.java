@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.store.OpenStore;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import java.nio.ByteBuffer;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link IntKey} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class IntKeyTest {
+
+    @Test
+    void equalsAKeyOfTheSameNumber() {
+        new Assertion<>(
+            "must be equal to a key of the same number",
+            new IntKey(42),
+            new IsEqual<>(new IntKey(42))
+        ).affirm();
+    }
+
+    @Test
+    void comparesNumbers() {
+        new Assertion<>(
+            "must not be equal to a key of another number",
+            new IntKey(42),
+            new IsNot<>(new IsEqual<>(new IntKey(43)))
+        ).affirm();
+    }
+
+    @Test
+    void hashesTheSameNumberAlike() {
+        new Assertion<>(
+            "must hash keys of the same number alike",
+            new IntKey(42).hashCode(),
+            new IsEqual<>(new IntKey(42).hashCode())
+        ).affirm();
+    }
+
+    @Test
+    void fingerprintsAnotherNumberApart() {
+        new Assertion<>(
+            "must fingerprint keys of other numbers apart",
+            new Fingerprint().applyAsLong(new IntKey(42)),
+            new IsNot<>(
+                new IsEqual<>(new Fingerprint().applyAsLong(new IntKey(43)))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void retrievesFromStore() {
+        final Store<IntKey, Synonyms> store = new StoreOf<>();
+        store.save(
+            new IntKey(42),
+            new EntryOf<>(new IntKey(42), new Synonyms("42"))
+        );
+        new Assertion<>(
+            "must retrieve an entry by a new key of the same number",
+            store.retrieve(new IntKey(42)).value(),
+            new IsEqual<>(new Synonyms("42"))
+        ).affirm();
+    }
+
+    @Test
+    void retrievesFromOpenStore() {
+        final Store<IntKey, Synonyms> store = new OpenStore<>();
+        for (int id = 0; id < 100; ++id) {
+            store.save(
+                new IntKey(id),
+                new EntryOf<>(
+                    new IntKey(id),
+                    new Synonyms(Integer.toString(id))
+                )
+            );
+        }
+        new Assertion<>(
+            "must retrieve an entry from an open store by the same number",
+            store.retrieve(new IntKey(42)).value(),
+            new IsEqual<>(new Synonyms("42"))
+        ).affirm();
+    }
+
+    @Test
+    void decodesItsOwnBytes() throws Exception {
+        final Key<IntKey> decoded = new Decoded<IntKey>(
+            bytes -> new IntKey(ByteBuffer.wrap(bytes).getInt())
+        ).apply(new IntKey(42).asBytes());
+        new Assertion<>(
+            "must decode its bytes back to a key of the same number",
+            decoded,
+            new IsEqual<>(new IntKey(42))
+        ).affirm();
+    }
+}
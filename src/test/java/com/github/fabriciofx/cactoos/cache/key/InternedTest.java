@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Word;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Bytes;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Interned} tests.
+ * @since 0.0.14
+ */
+@SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+final class InternedTest {
+
+    @Test
+    void reusesCanonicalKey() {
+        final Interned<Word> pool = new Interned<>();
+        final Key<Word> key = pool.key(new Word("test"));
+        new Assertion<>(
+            "must return the same key for equal values",
+            pool.key(new Word("test")),
+            new IsSame<>(key)
+        ).affirm();
+    }
+
+    @Test
+    void keepsDifferentKeysApart() {
+        final Interned<Word> pool = new Interned<>();
+        new Assertion<>(
+            "must return different keys for different values",
+            pool.key(new Word("one")),
+            new IsNot<>(new IsEqual<>(pool.key(new Word("two"))))
+        ).affirm();
+    }
+
+    @Test
+    void equalsToKeyOf() {
+        new Assertion<>(
+            "must be equal to a key of the same value",
+            new Interned<Word>().key(new Word("test")),
+            new IsEqual<>(new KeyOf<>(new Word("test")))
+        ).affirm();
+    }
+
+    @Test
+    void serializesOnlyOnceForAllLookups() {
+        final AtomicInteger count = new AtomicInteger(0);
+        final Bytes word = () -> {
+            count.incrementAndGet();
+            return new Word("test").asBytes();
+        };
+        final Interned<Bytes> pool = new Interned<>();
+        final Key<Bytes> key = pool.key(word);
+        for (int idx = 0; idx < 10; ++idx) {
+            pool.key(word).hash().value();
+        }
+        new Assertion<>(
+            "must serialize the key value only once for all lookups",
+            count.get(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "must keep returning the canonical key",
+            pool.key(word),
+            new IsSame<>(key)
+        ).affirm();
+    }
+}
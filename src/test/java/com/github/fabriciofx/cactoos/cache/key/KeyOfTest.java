@@ -5,6 +5,9 @@
 package com.github.fabriciofx.cactoos.cache.key;
 
 import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.hash.Murmur3Hash;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Bytes;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -44,4 +47,42 @@ final class KeyOfTest {
             new IsEqual<>(1_326_936_845)
         ).affirm();
     }
+
+    @Test
+    void serializesOnlyOnce() {
+        final AtomicInteger count = new AtomicInteger(0);
+        final Bytes word = () -> {
+            count.incrementAndGet();
+            return new Word("test").asBytes();
+        };
+        final KeyOf<Bytes> key = new KeyOf<>(word);
+        key.hash().value();
+        key.size();
+        key.equals(new KeyOf<>(new Word("test")));
+        new Assertion<>(
+            "Must serialize the key value only once",
+            count.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void equalsWhenSameBytes() {
+        new Assertion<>(
+            "Must be equal when the values have the same bytes",
+            new KeyOf<>(new Word("a long key to be compared")),
+            new IsEqual<>(new KeyOf<>(new Word("a long key to be compared")))
+        ).affirm();
+    }
+
+    @Test
+    void notEqualsWhenDifferentHashes() {
+        new Assertion<>(
+            "Must not be equal when the hashes are different",
+            new KeyOf<>(new Word("test")).equals(
+                new KeyOf<>(new Word("test"), new Murmur3Hash(new Word("test")))
+            ),
+            new IsEqual<>(false)
+        ).affirm();
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.key;
+
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.store.OpenStore;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link LongKey} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class LongKeyTest {
+
+    @Test
+    void comparesNumbers() {
+        new Assertion<>(
+            "must not be equal to a key of another number",
+            new LongKey(42L),
+            new IsNot<>(new IsEqual<>(new LongKey(43L)))
+        ).affirm();
+    }
+
+    @Test
+    void retrievesFromOpenStore() {
+        final Store<LongKey, Synonyms> store = new OpenStore<>();
+        for (long id = 0L; id < 100L; ++id) {
+            store.save(
+                new LongKey(id),
+                new EntryOf<>(
+                    new LongKey(id),
+                    new Synonyms(Long.toString(id))
+                )
+            );
+        }
+        new Assertion<>(
+            "must retrieve an entry by a new key of the same number",
+            store.retrieve(new LongKey(42L)).value(),
+            new IsEqual<>(new Synonyms("42"))
+        ).affirm();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.listener;
+
+import com.github.fabriciofx.cactoos.cache.Cause;
+import com.github.fabriciofx.cactoos.cache.Listener;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Asynchronous} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class AsynchronousTest {
+
+    @Test
+    void leavesTheListenerToTheExecutor() {
+        final List<Cause> causes = new CopyOnWriteArrayList<>();
+        final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        final Listener<Word, Synonyms> listener = new Asynchronous<>(
+            (entry, cause) -> causes.add(cause),
+            tasks::add
+        );
+        AsynchronousTest.remove(listener);
+        new Assertion<>(
+            "must not call the listener on the removing thread",
+            causes.isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+        tasks.forEach(Runnable::run);
+        new Assertion<>(
+            "must call the listener when the executor runs it",
+            causes,
+            new IsEqual<>(List.of(Cause.EXPLICIT))
+        ).affirm();
+    }
+
+    @Test
+    void runsTheListenerOnTheExecutorThread() {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final Listener<Word, Synonyms> listener = new Asynchronous<>(
+            (entry, cause) -> threads.add(Thread.currentThread().getName()),
+            task -> {
+                final Thread thread = new Thread(task, "listener");
+                thread.start();
+                try {
+                    thread.join();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        );
+        AsynchronousTest.remove(listener);
+        new Assertion<>(
+            "must call the listener on a thread of the executor",
+            threads,
+            new IsEqual<>(List.of("listener"))
+        ).affirm();
+    }
+
+    private static void remove(final Listener<Word, Synonyms> listener) {
+        listener.removed(
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y")
+            ),
+            Cause.EXPLICIT
+        );
+    }
+}
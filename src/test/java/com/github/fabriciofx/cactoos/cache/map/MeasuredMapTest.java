@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link MeasuredMap} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (100 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class MeasuredMapTest {
+
+    @Test
+    void measuresPutsAndReplacements() {
+        final AtomicLong values = new AtomicLong(0L);
+        final Map<String, String> map = new MeasuredMap<>(
+            new StripedLinkedMap<>(),
+            String::length,
+            String::length,
+            new AtomicLong(0L),
+            values
+        );
+        map.put("a", "xyz");
+        map.put("b", "k");
+        map.put("a", "xy");
+        new Assertion<>(
+            "must keep the size of the values after a replacement",
+            values.get(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void measuresRemovalsThroughViews() {
+        final AtomicLong keys = new AtomicLong(0L);
+        final Map<String, String> map = new MeasuredMap<>(
+            new StripedLinkedMap<>(),
+            String::length,
+            String::length,
+            keys,
+            new AtomicLong(0L)
+        );
+        map.put("aa", "x");
+        map.put("bbb", "y");
+        map.keySet().removeIf(key -> key.startsWith("b"));
+        new Assertion<>(
+            "must discount keys removed through a view",
+            keys.get(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void measuresZeroAfterClear() {
+        final AtomicLong values = new AtomicLong(0L);
+        final Map<String, String> map = new MeasuredMap<>(
+            new StripedLinkedMap<>(),
+            String::length,
+            String::length,
+            new AtomicLong(0L),
+            values
+        );
+        map.put("a", "xyz");
+        map.put("b", "klm");
+        map.clear();
+        new Assertion<>(
+            "must have size zero after clear",
+            values.get(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * {@link OpenHashMap} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (300 lines)
+ * @checkstyle JavadocMethodCheck (300 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class OpenHashMapTest {
+
+    @Test
+    void preservesInsertionOrder() {
+        final Map<String, Integer> map = new OpenHashMap<>(Object::hashCode);
+        map.put("first", 1);
+        map.put("second", 2);
+        map.put("third", 3);
+        new Assertion<>(
+            "must preserve insertion order in keySet",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("first", "second", "third"))
+        ).affirm();
+    }
+
+    @Test
+    void preservesOrderAfterRemovalAndUpdate() {
+        final Map<String, Integer> map = new OpenHashMap<>(Object::hashCode);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("b");
+        map.put("a", 10);
+        new Assertion<>(
+            "must preserve order after removing and updating",
+            new ListOf<>(map.values()),
+            new IsEqual<>(new ListOf<>(10, 3))
+        ).affirm();
+    }
+
+    @Test
+    void removesOnlyTheMappedValue() {
+        final Map<String, Integer> map = new OpenHashMap<>(Object::hashCode);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a", 2);
+        map.remove("b", 2);
+        new Assertion<>(
+            "must remove a key only if it maps to the given value",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("a"))
+        ).affirm();
+    }
+
+    @Test
+    void verifiesKeysWhenHashesCollide() {
+        final Map<String, Integer> map = new OpenHashMap<>(key -> 42L);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("a");
+        new Assertion<>(
+            "must find the right key among colliding hashes",
+            map.get("c"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void preservesOrderAfterGrowing() {
+        final Map<Integer, Integer> map = new OpenHashMap<>(
+            key -> (long) key.hashCode(),
+            2
+        );
+        for (int idx = 0; idx < 1000; ++idx) {
+            map.put(idx, idx);
+        }
+        for (int idx = 0; idx < 1000; idx += 2) {
+            map.remove(idx);
+        }
+        new Assertion<>(
+            "must preserve insertion order after growing",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(
+                IntStream.range(0, 1000).filter(idx -> idx % 2 == 1)
+                    .boxed().collect(Collectors.toList())
+            )
+        ).affirm();
+    }
+
+    @Test
+    void resumesIterationAfterRebuild() {
+        final Map<Integer, Integer> map = new OpenHashMap<>(
+            key -> (long) key.hashCode(),
+            4
+        );
+        map.put(1, 1);
+        map.put(2, 2);
+        final Iterator<Integer> keys = map.keySet().iterator();
+        keys.next();
+        for (int idx = 3; idx < 100; ++idx) {
+            map.put(idx, idx);
+        }
+        new Assertion<>(
+            "must resume iteration after the table is rebuilt",
+            keys.next(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void threadSafePutsAndRemoves() {
+        final AtomicInteger turn = new AtomicInteger(0);
+        new Assertion<>(
+            "must not throw after concurrent puts and removes",
+            map -> {
+                if (turn.getAndIncrement() % 2 == 0) {
+                    for (int idx = 0; idx < 500; ++idx) {
+                        map.put(idx, idx);
+                    }
+                } else {
+                    for (int idx = 0; idx < 500; ++idx) {
+                        map.remove(idx);
+                    }
+                }
+                return true;
+            },
+            new RunsInThreads<>(
+                new OpenHashMap<Integer, Integer>(Object::hashCode),
+                4
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * {@link StripedLinkedMap} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (400 lines)
+ * @checkstyle JavadocMethodCheck (400 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class StripedLinkedMapTest {
+
+    @Test
+    void preservesInsertionOrder() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("first", 1);
+        map.put("second", 2);
+        map.put("third", 3);
+        new Assertion<>(
+            "must preserve insertion order in keySet",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("first", "second", "third"))
+        ).affirm();
+    }
+
+    @Test
+    void preservesOrderAfterRemoval() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("b");
+        new Assertion<>(
+            "must preserve order after removing middle element",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("a", "c"))
+        ).affirm();
+    }
+
+    @Test
+    void preservesOrderAfterUpdate() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("x", 1);
+        map.put("y", 2);
+        map.put("z", 3);
+        map.put("x", 10);
+        new Assertion<>(
+            "must keep original insertion position after update",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("x", "y", "z"))
+        ).affirm();
+    }
+
+    @Test
+    void removesOnlyTheMappedValue() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a", 2);
+        map.remove("b", 2);
+        new Assertion<>(
+            "must remove a key only if it maps to the given value",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("a"))
+        ).affirm();
+    }
+
+    @Test
+    void removesAMappedValueOnce() {
+        final Map<Integer, Integer> target = new StripedLinkedMap<>();
+        for (int idx = 0; idx < 500; ++idx) {
+            target.put(idx, idx);
+        }
+        final AtomicInteger removed = new AtomicInteger(0);
+        new Assertion<>(
+            "must not throw after concurrent conditional removes",
+            map -> {
+                for (int idx = 0; idx < 500; ++idx) {
+                    if (map.remove(idx, idx)) {
+                        removed.incrementAndGet();
+                    }
+                }
+                return true;
+            },
+            new RunsInThreads<>(target, 10)
+        ).affirm();
+        new Assertion<>(
+            "must remove every key once",
+            removed.get(),
+            new IsEqual<>(500)
+        ).affirm();
+    }
+
+    @Test
+    void iteratorReturnsFirstInserted() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("alpha", 1);
+        map.put("beta", 2);
+        map.put("gamma", 3);
+        new Assertion<>(
+            "must return first inserted key from iterator",
+            map.keySet().iterator().next(),
+            new IsEqual<>("alpha")
+        ).affirm();
+    }
+
+    @Test
+    void valuesPreserveInsertionOrder() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 10);
+        map.put("b", 20);
+        map.put("c", 30);
+        new Assertion<>(
+            "must preserve insertion order in values",
+            new ListOf<>(map.values()),
+            new IsEqual<>(new ListOf<>(10, 20, 30))
+        ).affirm();
+    }
+
+    @Test
+    void preservesOrderAfterReinsertion() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a");
+        map.put("a", 3);
+        new Assertion<>(
+            "must move a removed and reinserted key to the end",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("b", "a"))
+        ).affirm();
+    }
+
+    @Test
+    void entriesPreserveInsertionOrder() {
+        final Map<String, Integer> map = new StripedLinkedMap<>(1);
+        map.put("a", 10);
+        map.put("b", 20);
+        map.put("a", 30);
+        new Assertion<>(
+            "must preserve insertion order in entrySet",
+            new ListOf<>(map.entrySet()),
+            new IsEqual<>(
+                new ListOf<>(new MapEntry<>("a", 30), new MapEntry<>("b", 20))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keySetIsLiveView() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        final Set<String> keys = map.keySet();
+        map.put("a", 1);
+        map.put("b", 2);
+        new Assertion<>(
+            "must reflect puts made after the view was taken",
+            new ListOf<>(keys),
+            new IsEqual<>(new ListOf<>("a", "b"))
+        ).affirm();
+    }
+
+    @Test
+    void removesThroughValuesIterator() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        final Iterator<Integer> values = map.values().iterator();
+        values.next();
+        values.remove();
+        new Assertion<>(
+            "must remove from the map through the values iterator",
+            new ListOf<>(map.keySet()),
+            new IsEqual<>(new ListOf<>("b"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRemoveBeforeNext() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        new Assertion<>(
+            "must reject a remove before next",
+            new ScalarOf<>(
+                () -> {
+                    map.keySet().iterator().remove();
+                    return true;
+                }
+            ),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRemoveTwice() {
+        final Map<String, Integer> map = new StripedLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        final Iterator<String> keys = map.keySet().iterator();
+        keys.next();
+        keys.remove();
+        new Assertion<>(
+            "must reject a second remove of the same element",
+            new ScalarOf<>(
+                () -> {
+                    keys.remove();
+                    return true;
+                }
+            ),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void threadSafePuts() {
+        new Assertion<>(
+            "must contain all entries after concurrent puts",
+            map -> {
+                final int offset = new AtomicInteger(0).getAndIncrement() * 100;
+                for (int num = 0; num < 100; ++num) {
+                    map.put(offset + num, offset + num);
+                }
+                return true;
+            },
+            new RunsInThreads<>(new StripedLinkedMap<>(), 10)
+        ).affirm();
+    }
+
+    @Test
+    void threadSafeReads() {
+        final Map<Integer, Integer> target = new StripedLinkedMap<>();
+        for (int idx = 0; idx < 500; ++idx) {
+            target.put(idx, idx);
+        }
+        new Assertion<>(
+            "all concurrent reads must find every key",
+            map -> {
+                boolean found = true;
+                for (int num = 0; num < 500; ++num) {
+                    if (!map.containsKey(num)) {
+                        found = false;
+                        break;
+                    }
+                }
+                return found;
+            },
+            new RunsInThreads<>(target, 10)
+        ).affirm();
+    }
+
+    @Test
+    void threadSafePutsAndRemoves() {
+        new Assertion<>(
+            "must not throw after concurrent puts and removes",
+            map -> {
+                if (new AtomicInteger(0).getAndIncrement() % 2 == 0) {
+                    for (int idx = 0; idx < 500; ++idx) {
+                        map.put(idx, idx);
+                    }
+                } else {
+                    for (int idx = 0; idx < 500; ++idx) {
+                        map.remove(idx);
+                    }
+                }
+                return true;
+            },
+            new RunsInThreads<>(new StripedLinkedMap<>(), 2)
+        ).affirm();
+    }
+
+    @Test
+    void noExceptionOnConcurrentIteration() {
+        final Map<Integer, Integer> target = new StripedLinkedMap<>();
+        for (int idx = 0; idx < 200; ++idx) {
+            target.put(idx, idx);
+        }
+        new Assertion<>(
+            "must not throw ConcurrentModificationException",
+            map -> {
+                final int id = new AtomicInteger(0).getAndIncrement();
+                boolean valid = true;
+                if (id % 2 == 0) {
+                    for (final Integer key : map.keySet()) {
+                        if (key < 0) {
+                            valid = false;
+                            break;
+                        }
+                    }
+                } else {
+                    map.put(200 + id, id);
+                }
+                return valid;
+            },
+            new RunsInThreads<>(target, 5)
+        ).affirm();
+    }
+}
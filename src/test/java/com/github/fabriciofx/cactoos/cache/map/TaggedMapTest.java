@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.map;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link TaggedMap} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class TaggedMapTest {
+
+    @Test
+    void findsKeysByTag() {
+        final TaggedMap<String, List<String>> map = TaggedMapTest.map();
+        map.put("a", List.of("x", "y"));
+        map.put("b", List.of("y"));
+        map.put("c", List.of("z"));
+        new Assertion<>(
+            "must find the keys whose value carries a tag",
+            map.tagged("y"),
+            new IsEqual<>(Set.of("a", "b"))
+        ).affirm();
+    }
+
+    @Test
+    void forgetsReplacedAndRemovedKeys() {
+        final TaggedMap<String, List<String>> map = TaggedMapTest.map();
+        map.put("a", List.of("x"));
+        map.put("b", List.of("x"));
+        map.put("a", List.of("y"));
+        map.keySet().remove("b");
+        new Assertion<>(
+            "must forget the keys no longer carrying a tag",
+            map.tagged("x"),
+            new IsEqual<>(Set.of())
+        ).affirm();
+    }
+
+    private static TaggedMap<String, List<String>> map() {
+        final Map<String, List<String>> origin = new HashMap<>();
+        return new TaggedMap<>(origin, tags -> tags);
+    }
+}
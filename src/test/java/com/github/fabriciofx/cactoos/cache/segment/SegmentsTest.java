@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.segment;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Segments} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (200 lines)
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SegmentsTest {
+
+    @Test
+    void readsBackAfterReopen(@TempDir final Path dir) throws Exception {
+        try (Segments segments = new Segments(dir, 64L)) {
+            segments.open(slot -> { });
+            segments.append(
+                new BytesOf("a").asBytes(),
+                new BytesOf("first").asBytes(),
+                new byte[0]
+            );
+            segments.append(
+                new BytesOf("b").asBytes(),
+                new BytesOf("second").asBytes(),
+                new byte[0]
+            ).kill();
+            segments.append(
+                new BytesOf("c").asBytes(),
+                new BytesOf("third").asBytes(),
+                new byte[0]
+            );
+        }
+        final List<String> values = new ArrayList<>(0);
+        try (Segments segments = new Segments(dir, 64L)) {
+            segments.open(
+                slot -> values.add(new TextOf(slot.value()).toString())
+            );
+        }
+        new Assertion<>(
+            "must read back the live records after reopening",
+            values,
+            new IsEqual<>(new ListOf<>("first", "third"))
+        ).affirm();
+    }
+
+    @Test
+    void compactsMostlyRemovedSegments(@TempDir final Path dir)
+        throws Exception {
+        try (Segments segments = new Segments(dir, 40L)) {
+            segments.open(slot -> { });
+            final Slot kept = segments.append(
+                new BytesOf("a").asBytes(),
+                new BytesOf("first").asBytes(),
+                new byte[0]
+            );
+            segments.append(
+                new BytesOf("b").asBytes(),
+                new BytesOf("second").asBytes(),
+                new byte[0]
+            ).kill();
+            segments.append(
+                new BytesOf("c").asBytes(),
+                new BytesOf("third").asBytes(),
+                new byte[0]
+            );
+            segments.compact(0.4);
+            new Assertion<>(
+                "must keep reading a record moved by a compaction",
+                new TextOf(kept.value()).asString(),
+                new IsEqual<>("first")
+            ).affirm();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            new Assertion<>(
+                "must delete the compacted segment",
+                files.anyMatch(
+                    path -> "0000000000000000.seg".equals(
+                        path.getFileName().toString()
+                    )
+                ),
+                new IsEqual<>(false)
+            ).affirm();
+        }
+    }
+}
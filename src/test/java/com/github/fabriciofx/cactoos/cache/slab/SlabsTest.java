@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.slab;
+
+import org.cactoos.bytes.BytesOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Slabs} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (100 lines)
+ * @checkstyle JavadocMethodCheck (100 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SlabsTest {
+
+    @Test
+    void readsBackTheBytes() throws Exception {
+        final Slabs slabs = new Slabs(64);
+        slabs.allocate(new BytesOf("first").asBytes());
+        new Assertion<>(
+            "must read back the bytes of a chunk",
+            slabs.allocate(new BytesOf("second").asBytes()).asBytes(),
+            new IsEqual<>(new BytesOf("second").asBytes())
+        ).affirm();
+    }
+
+    @Test
+    void readsBackBytesLargerThanSlab() throws Exception {
+        final byte[] bytes = new BytesOf(
+            "a chunk larger than the size of a slab"
+        ).asBytes();
+        new Assertion<>(
+            "must read back the bytes of a chunk larger than a slab",
+            new Slabs(16).allocate(bytes).asBytes(),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test
+    void reservesNewSlabWhenFull() {
+        final Slabs slabs = new Slabs(64);
+        for (int idx = 0; idx < 8; ++idx) {
+            slabs.allocate(new byte[16]);
+        }
+        new Assertion<>(
+            "must reserve a new slab when the last one is full",
+            slabs.reserved(),
+            new IsEqual<>(128L)
+        ).affirm();
+    }
+
+    @Test
+    void reusesReleasedChunks() {
+        final Slabs slabs = new Slabs(64);
+        final Chunk chunk = slabs.allocate(new byte[64]);
+        chunk.release();
+        slabs.allocate(new byte[64]);
+        new Assertion<>(
+            "must reuse a released chunk without a new slab",
+            slabs.reserved(),
+            new IsEqual<>(64L)
+        ).affirm();
+    }
+
+    @Test
+    void readsReleasedChunks() throws Exception {
+        final Slabs slabs = new Slabs(64);
+        final Chunk chunk = slabs.allocate(new BytesOf("first").asBytes());
+        chunk.release();
+        slabs.allocate(new BytesOf("other").asBytes());
+        new Assertion<>(
+            "must read back the bytes of a released chunk",
+            chunk.asBytes(),
+            new IsEqual<>(new BytesOf("first").asBytes())
+        ).affirm();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.snapshot;
+
+import com.github.fabriciofx.cactoos.cache.Snapshot;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.key.LongKey;
+import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
+import com.github.fabriciofx.cactoos.cache.store.StoreOf;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link SnapshotOf} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (200 lines)
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SnapshotOfTest {
+
+    @Test
+    void dumpsAndRestores(@TempDir final Path dir) throws Exception {
+        final Store<Word, Synonyms> store = SnapshotOfTest.store();
+        final Snapshot<Word, Synonyms> snapshot = SnapshotOfTest.snapshot(
+            dir,
+            16
+        );
+        snapshot.dump(store);
+        final Store<Word, Synonyms> restored = new StoreOf<>();
+        snapshot.restore(restored);
+        new Assertion<>(
+            "must restore the dumped value",
+            restored.retrieve(new KeyOf<>(new Word("a"))).value(),
+            new IsEqual<>(new Synonyms("x", "y", "z"))
+        ).affirm();
+    }
+
+    @Test
+    void skipsExpiredEntries(@TempDir final Path dir) throws Exception {
+        final Snapshot<Word, Synonyms> snapshot = SnapshotOfTest.snapshot(
+            dir,
+            1 << 10
+        );
+        snapshot.dump(SnapshotOfTest.store());
+        final Store<Word, Synonyms> restored = new StoreOf<>();
+        snapshot.restore(restored);
+        new Assertion<>(
+            "must not restore the expired entries",
+            new ListOf<>(restored.keys()),
+            new IsEqual<>(new ListOf<>(new KeyOf<>(new Word("a"))))
+        ).affirm();
+    }
+
+    @Test
+    void restoresNumericKeys(@TempDir final Path dir) throws Exception {
+        final Store<LongKey, Synonyms> store = new StoreOf<>();
+        store.save(
+            new LongKey(42L),
+            new EntryOf<>(new LongKey(42L), new Synonyms("x", "y"))
+        );
+        final Snapshot<LongKey, Synonyms> snapshot = new SnapshotOf<>(
+            dir.resolve("cache.snapshot"),
+            bytes -> new LongKey(ByteBuffer.wrap(bytes).getLong()),
+            bytes -> new Synonyms(
+                new String(bytes, StandardCharsets.UTF_8).split("")
+            )
+        );
+        snapshot.dump(store);
+        final Store<LongKey, Synonyms> restored = new StoreOf<>();
+        snapshot.restore(restored);
+        new Assertion<>(
+            "must find a restored entry by its numeric key",
+            restored.retrieve(new LongKey(42L)).value(),
+            new IsEqual<>(new Synonyms("x", "y"))
+        ).affirm();
+    }
+
+    private static Snapshot<Word, Synonyms> snapshot(
+        final Path dir,
+        final int buffer
+    ) {
+        return new SnapshotOf<>(
+            dir.resolve("cache.snapshot"),
+            bytes -> new Word(new String(bytes, StandardCharsets.UTF_8)),
+            bytes -> new Synonyms(
+                new String(bytes, StandardCharsets.UTF_8).split("")
+            ),
+            buffer
+        );
+    }
+
+    private static Store<Word, Synonyms> store() {
+        final Store<Word, Synonyms> store = new StoreOf<>();
+        store.save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with(
+                    "expiration",
+                    LocalDateTime.now(ZoneId.systemDefault()).plusHours(1L)
+                )
+            )
+        );
+        store.save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m"),
+                new MetadataOf().with(
+                    "expiration",
+                    LocalDateTime.now(ZoneId.systemDefault()).minusHours(1L)
+                )
+            )
+        );
+        return store;
+    }
+}
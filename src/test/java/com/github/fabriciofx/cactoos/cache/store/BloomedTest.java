@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Statistics;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.statistic.FalsePositives;
+import com.github.fabriciofx.cactoos.cache.statistic.Negatives;
+import com.github.fabriciofx.cactoos.cache.statistics.StatisticsOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Bloomed} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class BloomedTest {
+
+    @Test
+    void answersMissesOfUnknownKeys() {
+        final Statistics stats = BloomedTest.statistics();
+        final Store<Word, Synonyms> store = new Bloomed<>(stats);
+        BloomedTest.save(store, "a");
+        store.retrieve(new KeyOf<>(new Word("b")));
+        new Assertion<>(
+            "must answer the miss of an unknown key",
+            stats.statistic("negatives").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void sharesTheInvalidEntryOfMisses() {
+        final Store<Word, Synonyms> store = new Bloomed<>(
+            BloomedTest.statistics()
+        );
+        BloomedTest.save(store, "a");
+        new Assertion<>(
+            "must answer every miss with the same invalid entry",
+            store.retrieve(new KeyOf<>(new Word("b"))),
+            new IsSame<>(store.retrieve(new KeyOf<>(new Word("c"))))
+        ).affirm();
+    }
+
+    @Test
+    void findsSavedKeys() {
+        final Store<Word, Synonyms> store = new Bloomed<>(
+            BloomedTest.statistics()
+        );
+        BloomedTest.save(store, "a");
+        BloomedTest.save(store, "a");
+        new Assertion<>(
+            "must find a saved key",
+            store.contains(new KeyOf<>(new Word("a"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsTheKeyEntriesWereStoredUnder() {
+        final Store<Word, Synonyms> store = new Bloomed<>(
+            BloomedTest.statistics()
+        );
+        BloomedTest.save(store, "b");
+        store.save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("x", "y")
+            )
+        );
+        store.delete(new KeyOf<>(new Word("a")));
+        new Assertion<>(
+            "must keep the key of an entry stored under another key",
+            store.contains(new KeyOf<>(new Word("b"))),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsDeletedKeys() {
+        final Statistics stats = BloomedTest.statistics();
+        final Store<Word, Synonyms> store = new Bloomed<>(stats);
+        BloomedTest.save(store, "a");
+        BloomedTest.save(store, "a");
+        store.delete(new KeyOf<>(new Word("a")));
+        store.contains(new KeyOf<>(new Word("a")));
+        new Assertion<>(
+            "must forget a deleted key",
+            stats.statistic("negatives").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsClearedKeys() {
+        final Statistics stats = BloomedTest.statistics();
+        final Store<Word, Synonyms> store = new Bloomed<>(stats);
+        BloomedTest.save(store, "a");
+        store.entries().clear();
+        store.retrieve(new KeyOf<>(new Word("a")));
+        new Assertion<>(
+            "must forget the cleared keys",
+            stats.statistic("negatives").value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    private static Statistics statistics() {
+        return new StatisticsOf(new Negatives(), new FalsePositives());
+    }
+
+    private static void save(
+        final Store<Word, Synonyms> store,
+        final String word
+    ) {
+        store.save(
+            new KeyOf<>(new Word(word)),
+            new EntryOf<>(new KeyOf<>(new Word(word)), new Synonyms("x"))
+        );
+    }
+}
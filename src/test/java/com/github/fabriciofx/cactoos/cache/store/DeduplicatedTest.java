@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link Deduplicated} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class DeduplicatedTest {
+
+    @Test
+    void sharesEqualValues() {
+        final Store<Word, Synonyms> store = new Deduplicated<>();
+        DeduplicatedTest.save(store, "a", new Synonyms("x", "y"));
+        DeduplicatedTest.save(store, "b", new Synonyms("x", "y"));
+        new Assertion<>(
+            "must share one copy of equal values",
+            store.retrieve(new KeyOf<>(new Word("b"))).value(),
+            new IsSame<>(store.retrieve(new KeyOf<>(new Word("a"))).value())
+        ).affirm();
+    }
+
+    @Test
+    void keepsDifferentValuesApart() {
+        final Store<Word, Synonyms> store = new Deduplicated<>();
+        DeduplicatedTest.save(store, "a", new Synonyms("x", "y"));
+        DeduplicatedTest.save(store, "b", new Synonyms("k", "l"));
+        new Assertion<>(
+            "must not share different values",
+            store.retrieve(new KeyOf<>(new Word("b"))).value(),
+            new IsNot<>(
+                new IsEqual<>(
+                    store.retrieve(new KeyOf<>(new Word("a"))).value()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void dropsCopyOfRemovedValues() {
+        final Store<Word, Synonyms> store = new Deduplicated<>();
+        final Synonyms first = new Synonyms("x", "y");
+        DeduplicatedTest.save(store, "a", first);
+        store.delete(new KeyOf<>(new Word("a")));
+        DeduplicatedTest.save(store, "b", new Synonyms("x", "y"));
+        new Assertion<>(
+            "must not keep a copy of a value no entry points at",
+            store.retrieve(new KeyOf<>(new Word("b"))).value(),
+            new IsNot<>(new IsSame<>(first))
+        ).affirm();
+    }
+
+    private static void save(
+        final Store<Word, Synonyms> store,
+        final String word,
+        final Synonyms synonyms
+    ) {
+        store.save(
+            new KeyOf<>(new Word(word)),
+            new EntryOf<>(new KeyOf<>(new Word(word)), synonyms)
+        );
+    }
+}
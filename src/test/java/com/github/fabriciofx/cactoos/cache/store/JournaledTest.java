@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.journal.Journal;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.ScalarOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * {@link Journaled} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class JournaledTest {
+
+    @Test
+    void replaysAfterRestart(@TempDir final Path dir) throws Exception {
+        final Path path = dir.resolve("cache.journal");
+        JournaledTest.fill(path);
+        try (Journaled<Word, Synonyms> store = JournaledTest.store(path)) {
+            new Assertion<>(
+                "must rebuild the store from the journal",
+                new ListOf<>(store.keys()),
+                new IsEqual<>(
+                    new ListOf<>(
+                        new KeyOf<>(new Word("a")),
+                        new KeyOf<>(new Word("c"))
+                    )
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void ignoresTornRecord(@TempDir final Path dir) throws Exception {
+        final Path path = dir.resolve("cache.journal");
+        JournaledTest.fill(path);
+        Files.write(
+            path,
+            new byte[] {1, 0, 0, 0, 9, 'x'},
+            StandardOpenOption.APPEND
+        );
+        try (Journaled<Word, Synonyms> store = JournaledTest.store(path)) {
+            new Assertion<>(
+                "must replay the journal up to a torn record",
+                store.retrieve(new KeyOf<>(new Word("c"))).value(),
+                new IsEqual<>(new Synonyms("p", "q"))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void rejectsUnknownOperation(@TempDir final Path dir) throws Exception {
+        final Path path = dir.resolve("cache.journal");
+        JournaledTest.fill(path);
+        Files.write(
+            path,
+            new byte[] {7, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 'x'},
+            StandardOpenOption.APPEND
+        );
+        try (Journaled<Word, Synonyms> store = JournaledTest.store(path)) {
+            new Assertion<>(
+                "must reject a record of an unknown operation",
+                new ScalarOf<>(
+                    () -> store.contains(new KeyOf<>(new Word("a")))
+                ),
+                new Throws<>(UncheckedIOException.class)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void commitsWhenTooManyChangesWait(@TempDir final Path dir)
+        throws Exception {
+        final Path path = dir.resolve("cache.journal");
+        try (
+            Journaled<Word, Synonyms> store = new Journaled<>(
+                new StoreOf<>(),
+                new Journal<>(
+                    path,
+                    bytes -> new Word(
+                        new String(bytes, StandardCharsets.UTF_8)
+                    ),
+                    bytes -> new Synonyms(
+                        new String(bytes, StandardCharsets.UTF_8).split("")
+                    ),
+                    1L,
+                    TimeUnit.HOURS,
+                    1
+                )
+            )
+        ) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(new KeyOf<>(new Word("a")), new Synonyms("x"))
+            );
+            store.save(
+                new KeyOf<>(new Word("b")),
+                new EntryOf<>(new KeyOf<>(new Word("b")), new Synonyms("y"))
+            );
+            new Assertion<>(
+                "must commit the waiting changes when there are too many",
+                Files.size(path) > 0L,
+                new IsEqual<>(true)
+            ).affirm();
+        }
+    }
+
+    private static void fill(final Path path) throws Exception {
+        try (Journaled<Word, Synonyms> store = JournaledTest.store(path)) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z")
+                )
+            );
+            store.save(
+                new KeyOf<>(new Word("b")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("b")),
+                    new Synonyms("k", "l", "m")
+                )
+            );
+            store.save(
+                new KeyOf<>(new Word("c")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("c")),
+                    new Synonyms("p", "q")
+                )
+            );
+            store.delete(new KeyOf<>(new Word("b")));
+        }
+    }
+
+    private static Journaled<Word, Synonyms> store(final Path path) {
+        return new Journaled<>(
+            new StoreOf<>(),
+            new Journal<>(
+                path,
+                bytes -> new Word(new String(bytes, StandardCharsets.UTF_8)),
+                bytes -> new Synonyms(
+                    new String(bytes, StandardCharsets.UTF_8).split("")
+                )
+            )
+        );
+    }
+}
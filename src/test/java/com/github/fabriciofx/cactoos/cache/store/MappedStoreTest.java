@@ -0,0 +1,254 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Entry;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.metadata.MetadataOf;
+import com.github.fabriciofx.cactoos.cache.metadata.Serialized;
+import com.github.fabriciofx.cactoos.cache.metadata.TypeOf;
+import com.github.fabriciofx.cactoos.cache.slab.MappedFile;
+import com.github.fabriciofx.cactoos.cache.slab.Record;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link MappedStore} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (300 lines)
+ * @checkstyle MagicNumberCheck (300 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class MappedStoreTest {
+
+    @Test
+    void saveAndRetrieve(@TempDir final Path dir) throws Exception {
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z")
+                )
+            );
+            new Assertion<>(
+                "must save and retrieve a mapped entry",
+                store.retrieve(new KeyOf<>(new Word("a"))).value(),
+                new IsEqual<>(new Synonyms("x", "y", "z"))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void survivesRestart(@TempDir final Path dir) throws Exception {
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z")
+                )
+            );
+            store.save(
+                new KeyOf<>(new Word("b")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("b")),
+                    new Synonyms("k", "l", "m")
+                )
+            );
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("p", "q")
+                )
+            );
+            store.delete(new KeyOf<>(new Word("b")));
+        }
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            new Assertion<>(
+                "must load only the live entries after a restart",
+                new ListOf<>(store.keys()),
+                new IsEqual<>(new ListOf<>(new KeyOf<>(new Word("a"))))
+            ).affirm();
+            new Assertion<>(
+                "must load the last value saved before a restart",
+                store.retrieve(new KeyOf<>(new Word("a"))).value(),
+                new IsEqual<>(new Synonyms("p", "q"))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsMetadataAfterRestart(@TempDir final Path dir) throws Exception {
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z"),
+                    new MetadataOf().with("tags", new ListOf<>("red"))
+                )
+            );
+        }
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            new Assertion<>(
+                "must load the metadata after a restart",
+                store.retrieve(new KeyOf<>(new Word("a"))).metadata()
+                    .value("tags", new TypeOf<ListOf<String>>() { })
+                    .size(),
+                new IsEqual<>(1)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsTheMetadataOfReloadedEntriesOnceRemoved(@TempDir final Path dir)
+        throws Exception {
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            MappedStoreTest.save(store, "a", "red");
+        }
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            final Entry<Word, Synonyms> deleted = store.delete(
+                new KeyOf<>(new Word("a"))
+            );
+            MappedStoreTest.save(store, "b", "blu");
+            new Assertion<>(
+                "must keep the metadata of a removed entry in a reused slot",
+                deleted.metadata()
+                    .value("tag", new TypeOf<String>() { })
+                    .get(0),
+                new IsEqual<>("red")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsTheSaveOrderAfterRestart(@TempDir final Path dir)
+        throws Exception {
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            MappedStoreTest.save(store, "a", "red");
+            MappedStoreTest.save(store, "b", "red");
+            store.delete(new KeyOf<>(new Word("a")));
+            MappedStoreTest.save(store, "c", "red");
+        }
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            new Assertion<>(
+                "must load the entries in the order they were saved",
+                new ListOf<>(store.keys()),
+                new IsEqual<>(
+                    new ListOf<>(
+                        new KeyOf<>(new Word("b")),
+                        new KeyOf<>(new Word("c"))
+                    )
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsTheNewestRecordOfAKey(@TempDir final Path dir)
+        throws Exception {
+        final Path path = dir.resolve("cache.db");
+        final byte[] meta = new UncheckedBytes(
+            new Serialized(new MetadataOf())
+        ).asBytes();
+        try (MappedFile file = new MappedFile(path)) {
+            final Record filler = file.append(
+                MappedStoreTest.bytes("f"),
+                MappedStoreTest.bytes("old"),
+                meta
+            );
+            file.append(
+                MappedStoreTest.bytes("a"),
+                MappedStoreTest.bytes("old"),
+                meta
+            );
+            file.remove(filler);
+            file.append(
+                MappedStoreTest.bytes("a"),
+                MappedStoreTest.bytes("new"),
+                meta
+            );
+        }
+        try (MappedStore<Word, Synonyms> store = MappedStoreTest.store(dir)) {
+            new Assertion<>(
+                "must load the newest record of a key",
+                store.retrieve(new KeyOf<>(new Word("a"))).value(),
+                new IsEqual<>(new Synonyms("n", "e", "w"))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void reusesTheSpaceOfReplacedEntries(@TempDir final Path dir)
+        throws Exception {
+        final Path path = dir.resolve("cache.db");
+        try (
+            MappedStore<Word, Synonyms> store = new MappedStore<>(
+                new MappedFile(path, 4096),
+                bytes -> new Word(new String(bytes, StandardCharsets.UTF_8)),
+                bytes -> new Synonyms(
+                    new String(bytes, StandardCharsets.UTF_8).split("")
+                )
+            )
+        ) {
+            for (int idx = 0; idx < 1000; ++idx) {
+                store.save(
+                    new KeyOf<>(new Word("a")),
+                    new EntryOf<>(
+                        new KeyOf<>(new Word("a")),
+                        new Synonyms("x", "y", "z")
+                    )
+                );
+            }
+        }
+        new Assertion<>(
+            "must not grow the file when replacing an entry",
+            Files.size(path),
+            new IsEqual<>(4096L)
+        ).affirm();
+    }
+
+    private static void save(
+        final MappedStore<Word, Synonyms> store,
+        final String word,
+        final String tag
+    ) {
+        store.save(
+            new KeyOf<>(new Word(word)),
+            new EntryOf<>(
+                new KeyOf<>(new Word(word)),
+                new Synonyms("x", "y", "z"),
+                new MetadataOf().with("tag", tag)
+            )
+        );
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MappedStore<Word, Synonyms> store(final Path dir)
+        throws Exception {
+        return new MappedStore<>(
+            dir.resolve("cache.db"),
+            bytes -> new Word(new String(bytes, StandardCharsets.UTF_8)),
+            bytes -> new Synonyms(
+                new String(bytes, StandardCharsets.UTF_8).split("")
+            )
+        );
+    }
+}
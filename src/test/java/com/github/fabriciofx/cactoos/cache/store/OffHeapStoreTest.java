@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Cache;
+import com.github.fabriciofx.cactoos.cache.Store;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.base.CacheOf;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import com.github.fabriciofx.cactoos.cache.map.StripedLinkedMap;
+import com.github.fabriciofx.cactoos.cache.slab.Slabs;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link OffHeapStore} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (100 lines)
+ * @checkstyle JavadocMethodCheck (100 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class OffHeapStoreTest {
+
+    @Test
+    void saveAndRetrieve() {
+        final Cache<Word, Synonyms> cache = new CacheOf<>(
+            new OffHeapStore<>(
+                bytes -> new Synonyms(
+                    new String(bytes, StandardCharsets.UTF_8).split("")
+                )
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        new Assertion<>(
+            "must save and retrieve an off-heap entry",
+            cache.store().retrieve(new KeyOf<>(new Word("a"))).value(),
+            new IsEqual<>(new Synonyms("x", "y", "z"))
+        ).affirm();
+    }
+
+    @Test
+    void keepsSize() {
+        final Cache<Word, Synonyms> cache = new CacheOf<>(
+            new OffHeapStore<>(
+                bytes -> new Synonyms(
+                    new String(bytes, StandardCharsets.UTF_8).split("")
+                )
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("a")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("a")),
+                new Synonyms("x", "y", "z")
+            )
+        );
+        cache.store().save(
+            new KeyOf<>(new Word("b")),
+            new EntryOf<>(
+                new KeyOf<>(new Word("b")),
+                new Synonyms("k", "l", "m")
+            )
+        );
+        new Assertion<>(
+            "must measure the off-heap values",
+            cache.size(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void reusesTheMemoryOfDeletedValues() {
+        final Slabs slabs = new Slabs(16);
+        final Store<Word, Synonyms> store = new OffHeapStore<>(
+            new StripedLinkedMap<>(),
+            slabs,
+            bytes -> new Synonyms(
+                new String(bytes, StandardCharsets.UTF_8).split("")
+            )
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("abcdefghijklmnop".split(""))
+                )
+            );
+            store.delete(new KeyOf<>(new Word("a")));
+        }
+        new Assertion<>(
+            "must reuse the memory of the deleted values",
+            slabs.reserved(),
+            new IsEqual<>(16L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link SegmentedStore} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SegmentedStoreTest {
+
+    @Test
+    void saveAndRetrieve(@TempDir final Path dir) throws Exception {
+        try (
+            SegmentedStore<Word, Synonyms> store = SegmentedStoreTest.store(dir)
+        ) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z")
+                )
+            );
+            new Assertion<>(
+                "must save and retrieve an entry from the segments",
+                store.retrieve(new KeyOf<>(new Word("a"))).value(),
+                new IsEqual<>(new Synonyms("x", "y", "z"))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void survivesRestart(@TempDir final Path dir) throws Exception {
+        try (
+            SegmentedStore<Word, Synonyms> store = SegmentedStoreTest.store(dir)
+        ) {
+            store.save(
+                new KeyOf<>(new Word("a")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("a")),
+                    new Synonyms("x", "y", "z")
+                )
+            );
+            store.save(
+                new KeyOf<>(new Word("b")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("b")),
+                    new Synonyms("k", "l", "m")
+                )
+            );
+            store.entries().clear();
+            store.save(
+                new KeyOf<>(new Word("c")),
+                new EntryOf<>(
+                    new KeyOf<>(new Word("c")),
+                    new Synonyms("p", "q")
+                )
+            );
+        }
+        try (
+            SegmentedStore<Word, Synonyms> store = SegmentedStoreTest.store(dir)
+        ) {
+            new Assertion<>(
+                "must load only the live entries after a restart",
+                new ListOf<>(store.keys()),
+                new IsEqual<>(new ListOf<>(new KeyOf<>(new Word("c"))))
+            ).affirm();
+        }
+    }
+
+    private static SegmentedStore<Word, Synonyms> store(final Path dir) {
+        return new SegmentedStore<>(
+            dir,
+            bytes -> new Word(new String(bytes, StandardCharsets.UTF_8)),
+            bytes -> new Synonyms(
+                new String(bytes, StandardCharsets.UTF_8).split("")
+            )
+        );
+    }
+}
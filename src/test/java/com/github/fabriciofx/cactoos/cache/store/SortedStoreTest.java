@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.store;
+
+import com.github.fabriciofx.cactoos.cache.Key;
+import com.github.fabriciofx.cactoos.cache.Synonyms;
+import com.github.fabriciofx.cactoos.cache.Word;
+import com.github.fabriciofx.cactoos.cache.entry.EntryOf;
+import com.github.fabriciofx.cactoos.cache.key.KeyOf;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link SortedStore} tests.
+ * @since 0.0.14
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class SortedStoreTest {
+
+    @Test
+    void listsKeysUnderPrefix() {
+        final SortedStore<Word, Synonyms> store = SortedStoreTest.store();
+        final List<String> words = new ArrayList<>(0);
+        for (final Key<Word> key : store.prefix(new Word("t1/")).keys()) {
+            words.add(key.value().toString());
+        }
+        new Assertion<>(
+            "must list only the keys under the prefix, in order",
+            words,
+            new IsEqual<>(List.of("t1/a", "t1/b"))
+        ).affirm();
+    }
+
+    @Test
+    void clearsOnlyTheRange() {
+        final SortedStore<Word, Synonyms> store = SortedStoreTest.store();
+        store.range(
+            new KeyOf<>(new Word("t1/")),
+            new KeyOf<>(new Word("t2/"))
+        ).entries().clear();
+        new Assertion<>(
+            "must keep the keys out of the cleared range",
+            store.entries().count(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInsertionOrder() {
+        new Assertion<>(
+            "must keep the first saved entry as the oldest",
+            SortedStoreTest.store().oldest().key(),
+            new IsEqual<>(new KeyOf<>(new Word("t2/a")))
+        ).affirm();
+    }
+
+    @Test
+    void measuresOnlyTheRange() {
+        final SortedStore<Word, Synonyms> store = SortedStoreTest.store();
+        new Assertion<>(
+            "must measure only the entries under the prefix",
+            store.prefix(new Word("t1/")).entries().size() * 2,
+            new IsEqual<>(store.entries().size())
+        ).affirm();
+    }
+
+    @Test
+    void keepsTheSizeOfTheStoreWhenClearingARange() {
+        final SortedStore<Word, Synonyms> store = SortedStoreTest.store();
+        final int size = store.entries().size();
+        store.prefix(new Word("t1/")).entries().clear();
+        new Assertion<>(
+            "must subtract only the cleared entries from the store size",
+            store.entries().size() * 2,
+            new IsEqual<>(size)
+        ).affirm();
+    }
+
+    @Test
+    void takesTheOldestOfARangeByInsertionOrder() {
+        new Assertion<>(
+            "must take the first saved entry of the range as its oldest",
+            SortedStoreTest.store().prefix(new Word("t1/")).oldest().key(),
+            new IsEqual<>(new KeyOf<>(new Word("t1/b")))
+        ).affirm();
+    }
+
+    private static SortedStore<Word, Synonyms> store() {
+        final SortedStore<Word, Synonyms> store = new SortedStore<>();
+        for (final String word : List.of("t2/a", "t1/b", "t1/a", "t3/a")) {
+            store.save(
+                new KeyOf<>(new Word(word)),
+                new EntryOf<>(new KeyOf<>(new Word(word)), new Synonyms("x"))
+            );
+        }
+        return store;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.cactoos.cache.wheel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * {@link TimingWheel} tests.
+ * @since 0.0.14
+ * @checkstyle MagicNumberCheck (200 lines)
+ * @checkstyle JavadocMethodCheck (200 lines)
+ */
+@SuppressWarnings({"PMD.UnitTestShouldIncludeAssert", "InvalidBlockTag"})
+final class TimingWheelTest {
+
+    @Test
+    void handsItemsBackAtTheirDeadline() {
+        final TimingWheel<String> wheel = new TimingWheel<>(
+            1L, TimeUnit.MILLISECONDS, 0L
+        );
+        wheel.schedule("a", 100L);
+        wheel.advance(99L);
+        new Assertion<>(
+            "must hand the item back at its deadline",
+            wheel.advance(100L),
+            new IsEqual<>(List.of("a"))
+        ).affirm();
+    }
+
+    @Test
+    void replacesTheDeadlineOfScheduledItems() {
+        final TimingWheel<String> wheel = new TimingWheel<>(
+            1L, TimeUnit.MILLISECONDS, 0L
+        );
+        wheel.schedule("a", 100L);
+        wheel.schedule("a", 200L);
+        new Assertion<>(
+            "must not hand the item back at its replaced deadline",
+            wheel.advance(150L),
+            new IsEqual<>(List.of())
+        ).affirm();
+        new Assertion<>(
+            "must hand the item back only once, at its latest deadline",
+            wheel.advance(200L),
+            new IsEqual<>(List.of("a"))
+        ).affirm();
+    }
+
+    @Test
+    void dropsCancelledItems() {
+        final TimingWheel<String> wheel = new TimingWheel<>(
+            1L, TimeUnit.MILLISECONDS, 0L
+        );
+        wheel.schedule("a", 100L);
+        wheel.schedule("b", 100L);
+        wheel.cancel("a");
+        new Assertion<>(
+            "must not hand a cancelled item back",
+            wheel.advance(100L),
+            new IsEqual<>(List.of("b"))
+        ).affirm();
+    }
+
+    @Test
+    void cascadesFarDeadlines() {
+        final TimingWheel<Long> wheel = new TimingWheel<>(
+            1L, TimeUnit.MILLISECONDS, 0L
+        );
+        final List<Long> deadlines = List.of(
+            5L, 64L, 70L, 4_095L, 5_000L, 300_000L, 17_000_000L
+        );
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+        final Map<Long, Long> fired = new HashMap<>();
+        for (long now = 0L; now <= 17_100_000L; now += 997L) {
+            for (final Long item : wheel.advance(now)) {
+                fired.put(item, now);
+            }
+        }
+        new Assertion<>(
+            "must hand every item back within a step of its deadline",
+            deadlines.stream().allMatch(
+                deadline -> fired.containsKey(deadline)
+                    && fired.get(deadline) >= deadline
+                    && fired.get(deadline) < deadline + 997L
+            ),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}